@@ -1,9 +1,13 @@
 package com.co.lab.hex;
 
+import com.co.lab.hex.config.BlockHoundSupport;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication(scanBasePackages = "com.co.lab")
 public class App {
-    public static void main(String[] args) { SpringApplication.run(App.class, args); }
+    public static void main(String[] args) {
+        BlockHoundSupport.installIfPresent();
+        SpringApplication.run(App.class, args);
+    }
 }
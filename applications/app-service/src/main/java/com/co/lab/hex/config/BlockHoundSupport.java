@@ -0,0 +1,32 @@
+package com.co.lab.hex.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Array;
+
+/**
+ * Instala BlockHound si está en el classpath (solo con {@code -Pblockhound}): cualquier llamada
+ * bloqueante en un hilo no bloqueante (event loop de Netty, {@code parallel}) falla con
+ * {@code BlockingOperationError}. Los hilos de {@link SchedulerBlockingExecution} pueden bloquear.
+ */
+@Slf4j
+public final class BlockHoundSupport {
+
+    private static final String BLOCKHOUND = "reactor.blockhound.BlockHound";
+
+    private BlockHoundSupport() {}
+
+    public static void installIfPresent() {
+        ClassLoader loader = BlockHoundSupport.class.getClassLoader();
+        if (!ClassUtils.isPresent(BLOCKHOUND, loader)) return;
+        try {
+            Class<?> integration = ClassUtils.forName("reactor.blockhound.integration.BlockHoundIntegration[]", loader);
+            ClassUtils.forName(BLOCKHOUND, loader).getMethod("install", integration)
+                    .invoke(null, (Object) Array.newInstance(integration.getComponentType(), 0));
+            log.info("BlockHound installed: blocking calls on non-blocking threads will fail");
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("BlockHound is on the classpath but could not be installed", e);
+        }
+    }
+}
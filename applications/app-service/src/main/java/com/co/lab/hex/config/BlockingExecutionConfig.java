@@ -0,0 +1,17 @@
+package com.co.lab.hex.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Scheduler de los casos de uso y adaptadores que necesitan bloquear (ver {@link SchedulerBlockingExecution}). */
+@Configuration
+@EnableConfigurationProperties(BlockingExecutionProperties.class)
+public class BlockingExecutionConfig {
+
+    @Bean
+    public SchedulerBlockingExecution blockingExecution(BlockingExecutionProperties props, MeterRegistry registry) {
+        return new SchedulerBlockingExecution(props, registry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.co.lab.hex.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Scheduler del código bloqueante ({@code use-cases.blocking.*}).
+ *
+ * @param mode           {@code BOUNDED_ELASTIC} o {@code VIRTUAL_THREADS} (requiere JDK 21; en 17
+ *                       se usa bounded-elastic)
+ * @param threadCap      hilos de bounded-elastic; 0 = 10 × núcleos, como {@code Schedulers.boundedElastic()}
+ * @param queuedTaskCap  tareas en espera de bounded-elastic; por encima se rechazan
+ * @param threadTtl      cuánto vive ocioso un hilo de bounded-elastic
+ * @param maxConcurrency tareas simultáneas con hilos virtuales (son baratos, lo que limitan es el
+ *                       recurso bloqueante de atrás)
+ */
+@ConfigurationProperties(prefix = "use-cases.blocking")
+public record BlockingExecutionProperties(
+        @DefaultValue("BOUNDED_ELASTIC") Mode mode,
+        @DefaultValue("0") int threadCap,
+        @DefaultValue("100000") int queuedTaskCap,
+        @DefaultValue("60s") Duration threadTtl,
+        @DefaultValue("10000") int maxConcurrency
+) {
+
+    public enum Mode { BOUNDED_ELASTIC, VIRTUAL_THREADS }
+}
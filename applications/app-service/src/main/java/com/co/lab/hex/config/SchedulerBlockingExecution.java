@@ -0,0 +1,106 @@
+package com.co.lab.hex.config;
+
+import com.co.lab.hex.model.execution.gateways.BlockingExecutionGateway;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link BlockingExecutionGateway} sobre un {@link Scheduler} propio, separado del
+ * {@code boundedElastic()} global para que una dependencia lenta no agote los hilos de las demás.
+ *
+ * <p>Con {@code VIRTUAL_THREADS} cada tarea corre en su propio hilo virtual (JDK 21, vía reflexión
+ * porque el toolchain por defecto es 17) y {@code max-concurrency} acota cuántas bloquean a la vez.
+ * Sin JDK 21 cae a bounded-elastic con un aviso.
+ */
+@Slf4j
+public class SchedulerBlockingExecution implements BlockingExecutionGateway, DisposableBean {
+
+    private final Scheduler scheduler;
+    private final BlockingExecutionProperties.Mode mode;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Semaphore permits;
+
+    public SchedulerBlockingExecution(BlockingExecutionProperties props, MeterRegistry registry) {
+        ExecutorService virtual = props.mode() == BlockingExecutionProperties.Mode.VIRTUAL_THREADS
+                ? virtualThreadExecutor() : null;
+        if (virtual != null) {
+            this.mode = BlockingExecutionProperties.Mode.VIRTUAL_THREADS;
+            this.scheduler = Schedulers.fromExecutorService(virtual, "usecase-vt");
+            this.permits = new Semaphore(props.maxConcurrency());
+        } else {
+            if (props.mode() == BlockingExecutionProperties.Mode.VIRTUAL_THREADS) {
+                log.warn("use-cases.blocking.mode=VIRTUAL_THREADS needs JDK 21+ (running {}); using BOUNDED_ELASTIC",
+                        Runtime.version());
+            }
+            int threadCap = props.threadCap() > 0 ? props.threadCap() : Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE;
+            this.mode = BlockingExecutionProperties.Mode.BOUNDED_ELASTIC;
+            this.scheduler = Schedulers.newBoundedElastic(threadCap, props.queuedTaskCap(), "usecase-blocking",
+                    (int) props.threadTtl().toSeconds(), true);
+            this.permits = null;
+        }
+        Gauge.builder("usecase.blocking.active", active, AtomicInteger::get)
+                .description("Blocking tasks running or queued on the use-case scheduler")
+                .tag("mode", mode.name())
+                .register(registry);
+        log.info("Blocking use-case work runs on {}", mode);
+    }
+
+    @Override
+    public <T> Mono<T> call(Callable<T> task) {
+        return Mono.fromCallable(permits == null ? task : bounded(task))
+                .subscribeOn(scheduler)
+                .doOnSubscribe(s -> active.incrementAndGet())
+                .doFinally(signal -> active.decrementAndGet());
+    }
+
+    /** Un stream ocupa un worker del scheduler mientras dure; cuenta como una tarea en curso. */
+    @Override
+    public <T> Flux<T> offload(Flux<T> source) {
+        return source.publishOn(scheduler)
+                .doOnSubscribe(s -> active.incrementAndGet())
+                .doFinally(signal -> active.decrementAndGet());
+    }
+
+    /** El que espera permiso es el hilo virtual, nunca el llamador. */
+    private <T> Callable<T> bounded(Callable<T> task) {
+        return () -> {
+            permits.acquire();
+            try {
+                return task.call();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /** Modo efectivo: {@code BOUNDED_ELASTIC} si se pidieron hilos virtuales sin JDK 21. */
+    public BlockingExecutionProperties.Mode mode() {
+        return mode;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+
+    /** {@code Executors.newVirtualThreadPerTaskExecutor()} si el runtime lo tiene; si no, {@code null}. */
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
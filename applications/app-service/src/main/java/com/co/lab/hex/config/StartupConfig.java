@@ -0,0 +1,24 @@
+package com.co.lab.hex.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.server.WebExceptionHandler;
+import org.springframework.web.server.WebFilter;
+
+/**
+ * Con el perfil {@code lazy} ({@code spring.main.lazy-initialization=true}) los beans se crean en
+ * su primer uso. La ruta caliente queda fuera: rutas (y con ellas handlers y casos de uso), filtros,
+ * el manejador de errores y el pool se crean al arrancar, así la primera petición no paga su costo.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter hotPathBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                RouterFunction.class, WebFilter.class, WebExceptionHandler.class, ConnectionFactory.class);
+    }
+}
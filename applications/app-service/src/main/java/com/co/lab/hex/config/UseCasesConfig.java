@@ -0,0 +1,13 @@
+package com.co.lab.hex.config;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+
+/** Registra como beans los casos de uso de {@code domain:usecase}, que no dependen de Spring. */
+@Configuration
+@ComponentScan(basePackages = "com.co.lab.hex.usecase",
+        includeFilters = @ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+UseCase$"),
+        useDefaultFilters = false)
+public class UseCasesConfig {
+}
@@ -0,0 +1,126 @@
+package com.co.lab.hex;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.gateways.TaskGateway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+/**
+ * Recorre las rutas con BlockHound instalado: una llamada bloqueante en el event loop (o en
+ * {@code parallel}) falla con {@code BlockingOperationError} y la respuesta sale 500.
+ *
+ * <p>La base se reemplaza por un {@link TaskGateway} en memoria: lo que se mide es el camino de
+ * WebFlux (codecs, filtros, validación, errores, CSV), no el driver.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "adapters.r2dbc.patient-dni-filter.enabled=false",
+        "entry-points.rate-limit.enabled=false"
+})
+class BlockHoundRoutesTest {
+
+    private static final int EXPORT_ROWS = 20_000;
+
+    @MockitoBean
+    TaskGateway taskGateway;
+
+    @Autowired
+    WebTestClient client;
+
+    private final Task task = Task.newTask("blockhound");
+
+    @BeforeAll
+    static void installBlockHound() {
+        BlockHound.install();
+    }
+
+    @BeforeEach
+    void stubDatabase() {
+        client = client.mutate()
+                .responseTimeout(Duration.ofSeconds(30))
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .build();
+        when(taskGateway.save(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(taskGateway.saveAll(any())).thenAnswer(inv -> Flux.fromIterable(inv.<List<Task>>getArgument(0)));
+        when(taskGateway.findById(any())).thenReturn(Mono.just(task));
+        when(taskGateway.findAfter(any(), anyInt())).thenReturn(Flux.just(task));
+        when(taskGateway.streamAfter(any())).thenAnswer(inv ->
+                Flux.range(0, EXPORT_ROWS).map(i -> Task.newTask("row " + i)));
+    }
+
+    @Test
+    void blockHoundIsActive() {
+        StepVerifier.create(Mono.fromCallable(() -> {
+                    Thread.sleep(1);
+                    return 1;
+                }).subscribeOn(Schedulers.parallel()))
+                .expectError(BlockingOperationError.class)
+                .verify();
+    }
+
+    @Test
+    void ping() {
+        client.get().uri("/ping").exchange().expectStatus().isOk();
+    }
+
+    @Test
+    void createAndRead() {
+        client.post().uri("/api/tasks").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"description\":\"created under blockhound\"}")
+                .exchange().expectStatus().isCreated();
+        client.get().uri("/api/tasks/{id}", task.id())
+                .exchange().expectStatus().isOk().expectHeader().exists("ETag");
+        client.get().uri("/api/tasks?limit=10")
+                .exchange().expectStatus().isOk();
+    }
+
+    @Test
+    void bulkNdjson() {
+        client.post().uri("/api/tasks:bulk").contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"description\":\"a\"}\nnull\n{\"description\":\"\"}\n")
+                .exchange().expectStatus().isOk();
+    }
+
+    @Test
+    void errorRendering() {
+        client.post().uri("/api/tasks").contentType(MediaType.APPLICATION_JSON).bodyValue("{}")
+                .exchange().expectStatus().isBadRequest();
+        client.post().uri("/api/tasks").contentType(MediaType.APPLICATION_JSON)
+                .exchange().expectStatus().isBadRequest();
+        client.get().uri("/api/tasks/not-a-uuid")
+                .exchange().expectStatus().isBadRequest();
+        client.get().uri("/api/nothing-here/{id}", UUID.randomUUID())
+                .exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    void streamingListAndCsvExport() {
+        client.get().uri("/api/tasks").accept(MediaType.APPLICATION_NDJSON)
+                .exchange().expectStatus().isOk();
+        byte[] csv = client.get().uri("/api/tasks:export")
+                .exchange().expectStatus().isOk()
+                .expectBody().returnResult().getResponseBody();
+        assertThat(csv).isNotNull();
+        assertThat(new String(csv).lines()).hasSize(EXPORT_ROWS + 1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.co.lab.hex.benchmarks;
+
+import com.co.lab.hex.config.BlockingExecutionProperties;
+import com.co.lab.hex.config.SchedulerBlockingExecution;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Oleadas de {@value #WAVE} tareas concurrentes, mezcla de bloqueantes y no bloqueantes, en cada
+ * modo de {@link SchedulerBlockingExecution}.
+ *
+ * <p>Una tarea bloqueante duerme 1 ms en el scheduler (lo que tarda una consulta JDBC corta); una
+ * no bloqueante espera 1 ms en un timer sin ocupar hilo. El score es oleadas/s (× {@value #WAVE}
+ * = tareas/s) y {@code peakThreads} el pico de hilos de plataforma durante la iteración.
+ *
+ * <p>{@code VIRTUAL_THREADS} necesita correr con JDK 21 ({@code -PjavaVersion=21}); en 17 el setup
+ * falla en lugar de medir bounded-elastic con la etiqueta equivocada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BlockingExecutionBenchmark {
+
+    static final int WAVE = 1000;
+    private static final Duration WORK = Duration.ofMillis(1);
+
+    @Param({"BOUNDED_ELASTIC", "VIRTUAL_THREADS"})
+    String mode;
+
+    /** Porcentaje de tareas bloqueantes en cada oleada. */
+    @Param({"10", "50", "90"})
+    int blockingPercent;
+
+    private SchedulerBlockingExecution execution;
+
+    @Setup
+    public void setUp() {
+        execution = new SchedulerBlockingExecution(new BlockingExecutionProperties(
+                BlockingExecutionProperties.Mode.valueOf(mode), 0, 100_000, Duration.ofSeconds(60), 10_000),
+                new SimpleMeterRegistry());
+        if (!execution.mode().name().equals(mode)) {
+            execution.destroy();
+            throw new IllegalStateException(mode + " is not available on JDK " + Runtime.version()
+                    + "; run with -PjavaVersion=21");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        execution.destroy();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ThreadPeak {
+        private static final ThreadMXBean MX = ManagementFactory.getThreadMXBean();
+        public long peakThreads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            MX.resetPeakThreadCount();
+        }
+
+        @TearDown(Level.Iteration)
+        public void record() {
+            peakThreads = MX.getPeakThreadCount();
+        }
+    }
+
+    @Benchmark
+    public Long wave(ThreadPeak threads) {
+        return Flux.range(0, WAVE)
+                .flatMap(i -> i % 100 < blockingPercent
+                        ? execution.call(BlockingExecutionBenchmark::blockingWork)
+                        : Mono.delay(WORK), WAVE)
+                .count()
+                .block();
+    }
+
+    private static Long blockingWork() throws InterruptedException {
+        Thread.sleep(WORK.toMillis());
+        return 0L;
+    }
+}
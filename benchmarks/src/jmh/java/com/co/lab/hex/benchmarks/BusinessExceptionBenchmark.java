@@ -0,0 +1,84 @@
+package com.co.lab.hex.benchmarks;
+
+import com.co.lab.hex.errorHandler.CorrelationIdFilter;
+import com.co.lab.hex.errorHandler.GlobalErrorWebExceptionHandlerConfig;
+import com.co.lab.hex.exceptions.business.BusinessErrorMessages;
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.result.view.ViewResolver;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga dominada por 404/409: se lanza el error desde {@code stackDepth} marcos de profundidad
+ * (como en una cadena reactiva real) y se renderiza la respuesta problem+json.
+ *
+ * <ul>
+ *   <li>{@code stacktrace}: ctor habitual, llena el stack en cada error.</li>
+ *   <li>{@code stackless}: {@link CustomBusinessException#stackless}.</li>
+ *   <li>{@code shared}: {@link CustomBusinessException#shared}, sin asignar la excepción.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BusinessExceptionBenchmark {
+
+    @Param({"stacktrace", "stackless", "shared"})
+    public String mode;
+
+    @Param({"32", "128"})
+    public int stackDepth;
+
+    private StaticApplicationContext context;
+    private WebExceptionHandler handler;
+    private BusinessErrorMessages[] errors;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new StaticApplicationContext();
+        context.refresh();
+        handler = new GlobalErrorWebExceptionHandlerConfig().problemHandler(
+                ErrorFixtures.errorAttributes(),
+                context, context.getBeanProvider(ViewResolver.class), ServerCodecConfigurer.create());
+        if (handler instanceof InitializingBean ib) ib.afterPropertiesSet();
+        errors = new BusinessErrorMessages[]{BusinessErrorMessages.PATIENT_NOT_FOUND, BusinessErrorMessages.DUPLICATE_PATIENT};
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CustomBusinessException create() {
+        return createAt(stackDepth, errors[next++ & 1]);
+    }
+
+    @Benchmark
+    public MockServerWebExchange createAndRender() {
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/patients/123"));
+        exchange.getAttributes().put(CorrelationIdFilter.CID_KEY, "6f1c2b0e-3c1d-4a43-9d8e-0f3c1b2a4d5e");
+        Mono.<Void>error(createAt(stackDepth, errors[next++ & 1]))
+                .onErrorResume(e -> handler.handle(exchange, e))
+                .block();
+        return exchange;
+    }
+
+    private CustomBusinessException createAt(int depth, BusinessErrorMessages em) {
+        if (depth > 0) return createAt(depth - 1, em);
+        return switch (mode) {
+            case "stackless" -> CustomBusinessException.stackless(em, null);
+            case "shared" -> CustomBusinessException.shared(em);
+            default -> new CustomBusinessException(em);
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.co.lab.hex.benchmarks;
+
+import com.co.lab.hex.web.ratelimit.TokenBucketStore;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo por petición del rate limit por cliente con muchos clientes distintos y varios hilos.
+ *
+ * <ul>
+ *   <li>{@code keyOnly}: línea base, solo elegir el cliente.</li>
+ *   <li>{@code tokenBucketStore}: {@link TokenBucketStore} (GCRA, un CAS por petición).</li>
+ *   <li>{@code resilience4jPerClient}: un {@link RateLimiter} de Resilience4j por cliente en un mapa.</li>
+ * </ul>
+ * La reposición es alta a propósito: se mide la contabilidad, no el rechazo.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class ClientRateLimiterBenchmark {
+
+    @Param({"1000", "100000"})
+    int clients;
+
+    String[] keys;
+    TokenBucketStore store;
+    ConcurrentHashMap<String, RateLimiter> r4j;
+    RateLimiterConfig r4jConfig;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        /** Cada hilo arranca en otro punto para no pisar los mismos buckets en fila. */
+        @Setup
+        public void setup(ClientRateLimiterBenchmark benchmark) {
+            next = ThreadLocalRandom.current().nextInt(benchmark.clients);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) keys[i] = "client-" + i;
+        store = new TokenBucketStore(100, 1_000_000, 64, clients * 2, TimeUnit.MINUTES.toNanos(10));
+        r4jConfig = RateLimiterConfig.custom()
+                .limitForPeriod(1_000)
+                .limitRefreshPeriod(Duration.ofMillis(1))
+                .timeoutDuration(Duration.ZERO)
+                .build();
+        r4j = new ConcurrentHashMap<>();
+        // Mapas ya poblados: se mide el estado estable, no el alta de clientes.
+        for (String key : keys) {
+            store.tryAcquire(key);
+            r4j.put(key, RateLimiter.of(key, r4jConfig));
+        }
+    }
+
+    private String key(Cursor cursor) {
+        int i = cursor.next;
+        cursor.next = i + 7919 < clients ? i + 7919 : (i + 7919) % clients;
+        return keys[i];
+    }
+
+    @Benchmark
+    public String keyOnly(Cursor cursor) {
+        return key(cursor);
+    }
+
+    @Benchmark
+    public long tokenBucketStore(Cursor cursor) {
+        return store.tryAcquire(key(cursor));
+    }
+
+    @Benchmark
+    public boolean resilience4jPerClient(Cursor cursor) {
+        String key = key(cursor);
+        return r4j.computeIfAbsent(key, k -> RateLimiter.of(k, r4jConfig)).acquirePermission();
+    }
+}
@@ -0,0 +1,40 @@
+package com.co.lab.hex.benchmarks;
+
+import com.co.lab.hex.errorHandler.CorrelationIdFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Costo de {@link CorrelationIdFilter} con y sin cabecera entrante.
+ * {@link #exchangeOnly()} mide la construcción del exchange mock, que se descuenta del resto.
+ */
+@State(Scope.Benchmark)
+public class CorrelationIdFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean withHeader;
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter(new SimpleMeterRegistry());
+    private final WebFilterChain chain = exchange -> Mono.empty();
+
+    private ServerWebExchange newExchange() {
+        var request = MockServerHttpRequest.post("/api/tasks");
+        if (withHeader) request.header(CorrelationIdFilter.HDR, "6f1c2b0e-3c1d-4a43-9d8e-0f3c1b2a4d5e");
+        return MockServerWebExchange.from(request);
+    }
+
+    @Benchmark
+    public ServerWebExchange exchangeOnly() {
+        return newExchange();
+    }
+
+    @Benchmark
+    public Void filter() {
+        return filter.filter(newExchange(), chain).block();
+    }
+}
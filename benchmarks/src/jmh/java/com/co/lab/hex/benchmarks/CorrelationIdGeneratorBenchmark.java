@@ -0,0 +1,29 @@
+package com.co.lab.hex.benchmarks;
+
+import com.co.lab.hex.errorHandler.CorrelationIds;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generación de correlation ids con varios hilos a la vez (como los event loops de Netty).
+ * En modo {@code SampleTime} JMH reporta percentiles (p99, p99.9) por operación; con {@code -prof gc}
+ * los bytes asignados. {@code UUID.randomUUID()} comparte un {@code SecureRandom} entre hilos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class CorrelationIdGeneratorBenchmark {
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String correlationIds() {
+        return CorrelationIds.next();
+    }
+}
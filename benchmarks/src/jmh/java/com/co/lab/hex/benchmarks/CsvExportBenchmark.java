@@ -0,0 +1,78 @@
+package com.co.lab.hex.benchmarks;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.web.export.CsvEncoder;
+import com.co.lab.hex.web.export.CsvExport;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportación CSV de {@code rows} tareas sin base de datos.
+ *
+ * <ul>
+ *   <li>{@code streamed}: {@link CsvExport} a buffers del pool de Netty, liberados al "escribirse".</li>
+ *   <li>{@code materialized}: el enfoque ingenuo, todo el archivo en un {@code String} y luego en bytes.</li>
+ * </ul>
+ * Con {@code -prof gc}, {@code gc.alloc.rate.norm} dividido por {@code rows} es lo asignado por fila:
+ * en {@code streamed} es constante y nada sobrevive a la fila, así que el heap no crece con el
+ * tamaño del archivo; en {@code materialized} el archivo completo vive en el heap al final.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvExportBenchmark {
+
+    private static final List<String> HEADER = List.of("id", "description", "created_at");
+
+    @Param({"100000", "1000000"})
+    int rows;
+
+    private final Task[] sample = new Task[1024];
+    private final NettyDataBufferFactory factory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+    @Setup
+    public void setUp() {
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < sample.length; i++) {
+            String description = i % 10 == 0 ? "revisar \"urgente\", llamar" : "tarea número " + i;
+            sample[i] = new Task(UUID.randomUUID(), description, base.plusMillis(i * 37L));
+        }
+    }
+
+    private Flux<Task> tasks() {
+        return Flux.range(0, rows).map(i -> sample[i & (sample.length - 1)]);
+    }
+
+    @Benchmark
+    public long streamed() {
+        return CsvExport.encode(tasks(), HEADER,
+                        (CsvEncoder csv, Task t) -> csv.uuid(t.id()).text(t.description()).instant(t.createdAt()),
+                        factory)
+                .map(buffer -> {
+                    int n = buffer.readableByteCount();
+                    DataBufferUtils.release(buffer);
+                    return (long) n;
+                })
+                .reduce(0L, Long::sum)
+                .block();
+    }
+
+    @Benchmark
+    public long materialized() {
+        StringBuilder sb = new StringBuilder(String.join(",", HEADER)).append("\r\n");
+        for (Task t : tasks().toIterable()) {
+            String d = t.description();
+            if (d.indexOf(',') >= 0 || d.indexOf('"') >= 0) d = '"' + d.replace("\"", "\"\"") + '"';
+            sb.append(t.id()).append(',').append(d).append(',').append(t.createdAt()).append("\r\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+}
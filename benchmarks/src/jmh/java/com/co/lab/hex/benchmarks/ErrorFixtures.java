@@ -0,0 +1,84 @@
+package com.co.lab.hex.benchmarks;
+
+import com.co.lab.hex.errorHandler.*;
+import com.co.lab.hex.exceptions.business.BusinessErrorMessages;
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.exceptions.error.Errors;
+import com.co.lab.hex.exceptions.technical.CustomTechnicalException;
+import com.co.lab.hex.exceptions.technical.TechnicalErrorMessages;
+import com.co.lab.hex.web.task.dto.CreateTaskRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/** Una excepción representativa por familia que distingue {@code ProblemDetailsMapper}. */
+final class ErrorFixtures {
+    private ErrorFixtures() {}
+
+    static final String BIND = "bind";
+    static final String CONSTRAINT = "constraint";
+    static final String BUSINESS = "business";
+    static final String TIMEOUT = "timeout";
+    /** Catalogado sin {@code errors}: va por el cuerpo pre-serializado. */
+    static final String CATALOGUED = "catalogued";
+
+    /** {@link CustomErrorAttributes} como en la aplicación (métricas y límite de log activos). */
+    static CustomErrorAttributes errorAttributes() {
+        var mapper = new ProblemDetailsMapper();
+        return new CustomErrorAttributes(mapper,
+                new CataloguedProblemBodies(mapper),
+                new ErrorMetrics(new SimpleMeterRegistry()),
+                new ErrorLogLimiter(new ErrorLogProperties(true, 20, Duration.ofSeconds(10), 1000)));
+    }
+
+    static Throwable create(String family) {
+        return switch (family) {
+            case BIND -> bindException();
+            case CONSTRAINT -> constraintViolation();
+            case BUSINESS -> new CustomBusinessException(
+                    BusinessErrorMessages.INSURER_NOT_ACTIVE,
+                    List.of(Errors.e("POLICY_EXPIRED", "Policy expired on 2025-05-01"),
+                            Errors.e("POLICY_SUSPENDED", "Policy suspended")));
+            case TIMEOUT -> new TimeoutException("Did not observe any item or terminal signal within 5000ms");
+            case CATALOGUED -> new CustomTechnicalException(TechnicalErrorMessages.DEPENDENCY_UNAVAILABLE);
+            default -> throw new IllegalArgumentException("Unknown family " + family);
+        };
+    }
+
+    private static WebExchangeBindException bindException() {
+        var target = new CreateTaskRequest("");
+        var binding = new BeanPropertyBindingResult(target, "createTaskRequest");
+        binding.addError(new FieldError("createTaskRequest", "description", "must not be blank"));
+        binding.addError(new FieldError("createTaskRequest", "description", "size must be between 0 and 120"));
+        try {
+            var method = ErrorFixtures.class.getDeclaredMethod("handlerSignature", CreateTaskRequest.class);
+            return new WebExchangeBindException(new MethodParameter(method, 0), binding);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ConstraintViolationException constraintViolation() {
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        try {
+            var violations = factory.getValidator().validate(new CreateTaskRequest(" "));
+            return new ConstraintViolationException(violations);
+        } finally {
+            factory.close();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static void handlerSignature(CreateTaskRequest request) {
+        // solo aporta el MethodParameter de WebExchangeBindException
+    }
+}
@@ -0,0 +1,53 @@
+package com.co.lab.hex.benchmarks;
+
+import com.co.lab.hex.errorHandler.CorrelationIdFilter;
+import com.co.lab.hex.errorHandler.GlobalErrorWebExceptionHandlerConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.result.view.ViewResolver;
+import org.springframework.web.server.WebExceptionHandler;
+
+/**
+ * Render completo de un error: {@code WebExceptionHandler} de
+ * {@link GlobalErrorWebExceptionHandlerConfig} → {@link com.co.lab.hex.errorHandler.CustomErrorAttributes} →
+ * {@link com.co.lab.hex.errorHandler.ProblemDetailsMapper} → serialización JSON en el response.
+ */
+@State(Scope.Benchmark)
+public class ErrorRenderingBenchmark {
+
+    @Param({ErrorFixtures.BIND, ErrorFixtures.CONSTRAINT, ErrorFixtures.BUSINESS, ErrorFixtures.TIMEOUT,
+            ErrorFixtures.CATALOGUED})
+    public String family;
+
+    private StaticApplicationContext context;
+    private WebExceptionHandler handler;
+    private Throwable error;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new StaticApplicationContext();
+        context.refresh();
+        var errorAttributes = ErrorFixtures.errorAttributes();
+        handler = new GlobalErrorWebExceptionHandlerConfig().problemHandler(
+                errorAttributes, context, context.getBeanProvider(ViewResolver.class), ServerCodecConfigurer.create());
+        if (handler instanceof InitializingBean ib) ib.afterPropertiesSet();
+        error = ErrorFixtures.create(family);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockServerWebExchange render() {
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/tasks"));
+        exchange.getAttributes().put(CorrelationIdFilter.CID_KEY, "6f1c2b0e-3c1d-4a43-9d8e-0f3c1b2a4d5e");
+        handler.handle(exchange, error).block();
+        return exchange;
+    }
+}
@@ -0,0 +1,28 @@
+package com.co.lab.hex.benchmarks;
+
+import com.co.lab.hex.errorHandler.ProblemDetailsMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+
+/** Costo de {@code toProblemBody} por familia de excepción (sin HTTP ni serialización). */
+@State(Scope.Benchmark)
+public class ProblemDetailsMapperBenchmark {
+
+    @Param({ErrorFixtures.BIND, ErrorFixtures.CONSTRAINT, ErrorFixtures.BUSINESS, ErrorFixtures.TIMEOUT})
+    public String family;
+
+    private ProblemDetailsMapper mapper;
+    private Throwable error;
+
+    @Setup
+    public void setUp() {
+        mapper = new ProblemDetailsMapper();
+        error = ErrorFixtures.create(family);
+    }
+
+    @Benchmark
+    public Map<String, Object> toProblemBody() {
+        return mapper.toProblemBody(error, "/api/tasks", "6f1c2b0e-3c1d-4a43-9d8e-0f3c1b2a4d5e");
+    }
+}
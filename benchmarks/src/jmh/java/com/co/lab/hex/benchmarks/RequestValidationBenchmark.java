@@ -0,0 +1,62 @@
+package com.co.lab.hex.benchmarks;
+
+import com.co.lab.hex.web.task.dto.CreateTaskRequest;
+import com.co.lab.hex.web.validation.RecordValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Validación de {@link CreateTaskRequest} por petición.
+ *
+ * <ul>
+ *   <li>{@code hibernateValidator}: {@link Validator} de Hibernate Validator, como lo inyecta Spring.</li>
+ *   <li>{@code recordValidator}: {@link RecordValidator} compilado una vez en el setup.</li>
+ * </ul>
+ * {@code valid} es el caso normal; {@code blank} y {@code tooLong} pagan armar las violaciones
+ * (mensaje ya interpolado en ambos casos, Hibernate lo interpola por violación).
+ */
+@State(Scope.Benchmark)
+public class RequestValidationBenchmark {
+
+    @Param({"valid", "blank", "tooLong"})
+    String input;
+
+    CreateTaskRequest request;
+    ValidatorFactory factory;
+    Validator hibernate;
+    RecordValidator<CreateTaskRequest> compiled;
+
+    @Setup
+    public void setup() {
+        request = switch (input) {
+            case "valid" -> new CreateTaskRequest("Revisar resultados de laboratorio");
+            case "blank" -> new CreateTaskRequest("   ");
+            case "tooLong" -> new CreateTaskRequest("x".repeat(200));
+            default -> throw new IllegalArgumentException(input);
+        };
+        factory = Validation.buildDefaultValidatorFactory();
+        hibernate = factory.getValidator();
+        compiled = RecordValidator.compile(CreateTaskRequest.class);
+        // Mismo veredicto en ambos: si no, la comparación no vale.
+        if (hibernate.validate(request).size() != compiled.violations(request).size()) {
+            throw new IllegalStateException("Validators disagree on " + input);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Object hibernateValidator() {
+        return hibernate.validate(request);
+    }
+
+    @Benchmark
+    public Object recordValidator() {
+        return compiled.violations(request);
+    }
+}
@@ -0,0 +1,134 @@
+package com.co.lab.hex.benchmarks;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.web.task.events.InProcessTaskEvents;
+import com.co.lab.hex.web.task.events.TaskEventBus;
+import com.co.lab.hex.web.task.events.TaskEventsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Costo de publicar altas con 0, 1k y 10k conexiones abiertas en el feed.
+ *
+ * <ul>
+ *   <li>{@code publish}: lo que paga el hilo que confirmó el alta (tandas de
+ *       {@value #PUBLISH_BATCH}); debería ser plano en {@code subscribers} porque solo encola.</li>
+ *   <li>{@code publishUntilDelivered}: una alta hasta que llega a una conexión testigo, con el
+ *       reparto a las demás en el mismo hilo del feed.</li>
+ *   <li>{@code burstUntilDelivered}: ráfaga de {@value #BURST} altas en un solo {@code publish};
+ *       se despierta a las conexiones una vez por ráfaga, no por alta.</li>
+ * </ul>
+ * {@code delivered} cuenta los eventos que recibieron todas las conexiones en la iteración.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskEventBusBenchmark {
+
+    static final int BURST = 64;
+    static final int PUBLISH_BATCH = 1_000;
+
+    @Param({"0", "1000", "10000"})
+    int subscribers;
+
+    private InProcessTaskEvents events;
+    private TaskEventBus bus;
+    private final List<Disposable> connections = new ArrayList<>();
+    private final AtomicLong witness = new AtomicLong();
+    private static final AtomicLong DELIVERED = new AtomicLong();
+    private List<Task> one;
+    private List<Task> burst;
+
+    @Setup
+    public void setUp() {
+        events = new InProcessTaskEvents();
+        bus = new TaskEventBus(events, Jackson2ObjectMapperBuilder.json().build(),
+                new TaskEventsProperties(1024, TaskEventsProperties.Overflow.DROP_OLDEST, Duration.ofSeconds(15),
+                        subscribers + 1),
+                new SimpleMeterRegistry());
+        for (int i = 0; i < subscribers; i++) {
+            connections.add(bus.subscribe(null).subscribe(e -> DELIVERED.incrementAndGet()));
+        }
+        connections.add(bus.subscribe(null).subscribe(e -> witness.incrementAndGet()));
+        one = List.of(Task.newTask("benchmark task"));
+        burst = IntStream.range(0, BURST).mapToObj(i -> Task.newTask("benchmark task " + i)).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        connections.forEach(Disposable::dispose);
+        bus.destroy();
+        events.destroy();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Delivered {
+        public long delivered;
+        private long start;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            start = DELIVERED.get();
+        }
+
+        @TearDown(Level.Iteration)
+        public void record() {
+            delivered = DELIVERED.get() - start;
+        }
+    }
+
+    /**
+     * Antes de cada tanda se espera, fuera de la medición, a que el feed vacíe la anterior: así se
+     * mide el hand-off y no una cola que crece sin límite.
+     */
+    @State(Scope.Thread)
+    public static class Drained {
+        private long published;
+
+        @Setup(Level.Trial)
+        public void start(TaskEventBusBenchmark benchmark) {
+            published = benchmark.witness.get();
+        }
+
+        @Setup(Level.Invocation)
+        public void await(TaskEventBusBenchmark benchmark) {
+            while (benchmark.witness.get() < published) Thread.onSpinWait();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PUBLISH_BATCH)
+    public void publish(Drained drained, Delivered delivered) {
+        for (int i = 0; i < PUBLISH_BATCH; i++) events.publish(one);
+        drained.published += PUBLISH_BATCH;
+    }
+
+    @Benchmark
+    public long publishUntilDelivered(Delivered delivered) {
+        return publishAndAwait(one);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public long burstUntilDelivered(Delivered delivered) {
+        return publishAndAwait(burst);
+    }
+
+    private long publishAndAwait(List<Task> tasks) {
+        long target = witness.get() + tasks.size();
+        events.publish(tasks);
+        long seen;
+        while ((seen = witness.get()) < target) Thread.onSpinWait();
+        return seen;
+    }
+}
@@ -0,0 +1,68 @@
+#!/usr/bin/env bash
+# Tiempo hasta el primer 200 en /ping y RSS de app-service en tres variantes:
+#   jit      java -jar del bootJar normal
+#   lazy     igual, con el perfil lazy
+#   aot-cds  bootJar con -PfastStartup, layout extraído, -Dspring.aot.enabled=true y el archivo CDS
+#
+# Uso (desde la raíz):  benchmarks/startup/startup-bench.sh [corridas]      (por defecto 10)
+# Requiere: JDK 17 en PATH, curl, Linux (/proc para el RSS). No necesita Postgres.
+# Reporta la mediana y el peor caso de cada variante; el RSS se lee apenas responde el primer 200.
+set -euo pipefail
+
+RUNS=${1:-10}
+PORT=${PORT:-18080}
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+APP=$ROOT/applications/app-service
+WORK=$ROOT/benchmarks/build/startup
+mkdir -p "$WORK"
+
+build_variants() {
+  (cd "$ROOT" && bash ./gradlew -q :applications:app-service:bootJar)
+  cp "$APP"/build/libs/app-service-*-SNAPSHOT.jar "$WORK/jit.jar"
+  (cd "$ROOT" && bash ./gradlew -q :applications:app-service:cdsArchive -PfastStartup)
+  rm -rf "$WORK/aot-cds" && cp -r "$APP/build/cds" "$WORK/aot-cds"
+}
+
+now_ms() { date +%s%3N; }
+
+# $1 = nombre; resto = comando. Imprime "ms rss_kb".
+measure_once() {
+  local name=$1; shift
+  local start pid code=000
+  start=$(now_ms)
+  "$@" --server.port="$PORT" >"$WORK/$name.log" 2>&1 &
+  pid=$!
+  until [ "$code" = "200" ]; do
+    if ! kill -0 "$pid" 2>/dev/null; then echo "$name: el proceso terminó, ver $WORK/$name.log" >&2; exit 1; fi
+    code=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/ping" || true)
+    [ "$code" = "200" ] || sleep 0.01
+  done
+  local elapsed=$(( $(now_ms) - start ))
+  local rss
+  rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+  echo "$elapsed $rss"
+}
+
+# Mediana y máximo de una columna.
+summarize() {
+  sort -n | awk '{v[NR]=$1} END {m = (NR % 2) ? v[(NR+1)/2] : (v[NR/2] + v[NR/2+1]) / 2; printf "%8.0f %8.0f", m, v[NR]}'
+}
+
+run_variant() {
+  local name=$1; shift
+  : >"$WORK/$name.samples"
+  for _ in $(seq "$RUNS"); do measure_once "$name" "$@" >>"$WORK/$name.samples"; done
+  printf '%-8s %s %s\n' "$name" \
+    "$(cut -d' ' -f1 "$WORK/$name.samples" | summarize)" \
+    "$(cut -d' ' -f2 "$WORK/$name.samples" | awk '{print $1/1024}' | summarize)"
+}
+
+build_variants
+
+echo "corridas=$RUNS"
+printf '%-8s %8s %8s %8s %8s\n' variant p50_ms max_ms p50_MB max_MB
+run_variant jit     java -jar "$WORK/jit.jar"
+run_variant lazy    java -jar "$WORK/jit.jar" --spring.profiles.active=lazy
+(cd "$WORK/aot-cds" && run_variant aot-cds java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true \
+    -jar "$(ls app-service-*.jar)")
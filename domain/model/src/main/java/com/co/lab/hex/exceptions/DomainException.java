@@ -4,4 +4,9 @@ public interface DomainException {
     String getCode();
     String getTitle();
     Reason getReason();
+
+    /** Constante del catálogo que originó la excepción; {@code null} si se construyó con el ctor libre. */
+    default Enum<?> getCatalogEntry() {
+        return null;
+    }
 }
@@ -12,7 +12,10 @@ public enum BusinessErrorMessages {
     INVALID_BIRTH_DATE("PRB-003", "Invalid birth date", Reason.INVALID_INPUT, "Invalid Input"),
     DUPLICATE_PATIENT("PRB-004", "Patient already exists for DNI", Reason.CONFLICT, "Conflict"),
     PATIENT_NOT_FOUND("PRB-005", "Patient not found for DNI", Reason.NOT_FOUND, "Resource Not Found"),
-    INVALID_INPUT("PRB-006", "Invalid input", Reason.INVALID_INPUT, "Invalid Input");
+    INVALID_INPUT("PRB-006", "Invalid input", Reason.INVALID_INPUT, "Invalid Input"),
+    IDEMPOTENCY_KEY_REUSED("PRB-007", "Idempotency-Key already used with a different payload", Reason.CONFLICT, "Conflict"),
+    TASK_NOT_FOUND("PRB-008", "Task not found", Reason.NOT_FOUND, "Resource Not Found"),
+    DATA_REJECTED("PRB-009", "Value rejected by the database", Reason.INVALID_INPUT, "Invalid Input");
 
     private final String code;      // p. ej. PRB-001
     private final String message;   // mensaje por defecto (dominio)
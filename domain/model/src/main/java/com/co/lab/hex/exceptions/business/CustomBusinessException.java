@@ -7,8 +7,19 @@ import com.co.lab.hex.exceptions.error.ErrorMessage;
 import lombok.Getter;
 
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Error de negocio (4xx). Son control de flujo esperado, por eso además de los ctors
+ * habituales hay un modo sin stack trace:
+ * <ul>
+ *   <li>{@link #stackless(BusinessErrorMessages, List)}: instancia nueva sin recorrer la pila.</li>
+ *   <li>{@link #shared(BusinessErrorMessages)}: instancia única por constante del catálogo,
+ *       sin stack, sin suppressed y con causa fija; sirve para lanzarla tantas veces como haga falta.</li>
+ * </ul>
+ */
 @Getter
 public class CustomBusinessException extends RuntimeException implements DomainException, WithErrors {
 
@@ -16,6 +27,15 @@ public class CustomBusinessException extends RuntimeException implements DomainE
     private final String title;
     private final Reason reason;
     private final transient List<ErrorMessage> errors;
+    private final BusinessErrorMessages catalogEntry;
+
+    private static final Map<BusinessErrorMessages, CustomBusinessException> SHARED = new EnumMap<>(BusinessErrorMessages.class);
+
+    static {
+        for (BusinessErrorMessages em : BusinessErrorMessages.values()) {
+            SHARED.put(em, new CustomBusinessException(em, Collections.emptyList(), false));
+        }
+    }
 
     public CustomBusinessException(BusinessErrorMessages em, List<ErrorMessage> errors) {
         super(em.getMessage());
@@ -23,12 +43,30 @@ public class CustomBusinessException extends RuntimeException implements DomainE
         this.title = em.getTitle();
         this.reason = em.getReason();
         this.errors = errors == null ? Collections.emptyList() : errors;
+        this.catalogEntry = em;
     }
 
     public CustomBusinessException(BusinessErrorMessages em) {
         this(em, Collections.emptyList());
     }
 
+    protected CustomBusinessException(BusinessErrorMessages em, List<ErrorMessage> errors, boolean writableStackTrace) {
+        super(em.getMessage(), null, writableStackTrace, writableStackTrace);
+        this.code = em.getCode();
+        this.title = em.getTitle();
+        this.reason = em.getReason();
+        this.errors = errors == null ? Collections.emptyList() : errors;
+        this.catalogEntry = em;
+    }
+
+    public static CustomBusinessException stackless(BusinessErrorMessages em, List<ErrorMessage> errors) {
+        return new CustomBusinessException(em, errors, false);
+    }
+
+    public static CustomBusinessException shared(BusinessErrorMessages em) {
+        return SHARED.get(em);
+    }
+
     /** Ctor libre para casos dinámicos (no catalogados). */
     public CustomBusinessException(
             String code,
@@ -42,5 +80,6 @@ public class CustomBusinessException extends RuntimeException implements DomainE
         this.title = title;
         this.reason = reason;
         this.errors = errors == null ? Collections.emptyList() : errors;
+        this.catalogEntry = null;
     }
 }
\ No newline at end of file
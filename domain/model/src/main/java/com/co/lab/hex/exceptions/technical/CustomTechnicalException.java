@@ -7,8 +7,16 @@ import com.co.lab.hex.exceptions.error.ErrorMessage;
 import lombok.Getter;
 
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Error técnico (5xx). Por defecto conserva su stack trace, que es lo que se registra en el log.
+ * El modo sin stack es opcional y pensado para envolver una causa que ya trae el suyo
+ * ({@link #stackless(TechnicalErrorMessages, Throwable)}), o para rechazos sin valor
+ * diagnóstico, p. ej. fail-fast con el circuito abierto ({@link #shared(TechnicalErrorMessages)}).
+ */
 @Getter
 public class CustomTechnicalException extends RuntimeException implements DomainException, WithErrors {
 
@@ -16,6 +24,15 @@ public class CustomTechnicalException extends RuntimeException implements Domain
     private final String title;
     private final Reason reason;
     private final transient List<ErrorMessage> errors;
+    private final TechnicalErrorMessages catalogEntry;
+
+    private static final Map<TechnicalErrorMessages, CustomTechnicalException> SHARED = new EnumMap<>(TechnicalErrorMessages.class);
+
+    static {
+        for (TechnicalErrorMessages em : TechnicalErrorMessages.values()) {
+            SHARED.put(em, new CustomTechnicalException(em, null, false));
+        }
+    }
 
     public CustomTechnicalException(TechnicalErrorMessages em, List<ErrorMessage> errors) {
         super(em.getMessage());
@@ -23,12 +40,31 @@ public class CustomTechnicalException extends RuntimeException implements Domain
         this.title = em.getTitle();
         this.reason = em.getReason();
         this.errors = errors == null ? Collections.emptyList() : errors;
+        this.catalogEntry = em;
     }
 
     public CustomTechnicalException(TechnicalErrorMessages em) {
         this(em, Collections.emptyList());
     }
 
+    protected CustomTechnicalException(TechnicalErrorMessages em, Throwable cause, boolean writableStackTrace) {
+        super(em.getMessage(), cause, writableStackTrace, writableStackTrace);
+        this.code = em.getCode();
+        this.title = em.getTitle();
+        this.reason = em.getReason();
+        this.errors = Collections.emptyList();
+        this.catalogEntry = em;
+    }
+
+    /** Sin stack propio: el log del 5xx muestra el de {@code cause}. */
+    public static CustomTechnicalException stackless(TechnicalErrorMessages em, Throwable cause) {
+        return new CustomTechnicalException(em, cause, false);
+    }
+
+    public static CustomTechnicalException shared(TechnicalErrorMessages em) {
+        return SHARED.get(em);
+    }
+
     /** Ctor libre para casos dinámicos (no catalogados). */
     public CustomTechnicalException(
             String code,
@@ -42,5 +78,6 @@ public class CustomTechnicalException extends RuntimeException implements Domain
         this.title = title;
         this.reason = reason;
         this.errors = errors == null ? Collections.emptyList() : errors;
+        this.catalogEntry = null;
     }
 }
\ No newline at end of file
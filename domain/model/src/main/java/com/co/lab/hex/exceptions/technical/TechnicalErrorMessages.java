@@ -10,7 +10,8 @@ public enum TechnicalErrorMessages {
     DEPENDENCY_UNAVAILABLE("PRT-001", "Insurer service unavailable", Reason.SERVICE_UNAVAILABLE, "Service Unavailable"),
     INTERNAL_ERROR("PRT-002", "Internal error", Reason.INTERNAL_ERROR, "Internal Server Error"),
     DATABASE_UNAVAILABLE("PRT-003", "Database service unavailable", Reason.SERVICE_UNAVAILABLE, "Service Unavailable"),
-    FILE_GENERATION_ERROR("PRT-004", "File generation error", Reason.INTERNAL_ERROR, "Internal Server Error");
+    FILE_GENERATION_ERROR("PRT-004", "File generation error", Reason.INTERNAL_ERROR, "Internal Server Error"),
+    SERVICE_OVERLOADED("PRT-005", "Service overloaded, retry later", Reason.SERVICE_UNAVAILABLE, "Service Unavailable");
 
     private final String code;     // p. ej. PRT-001
     private final String message;  // mensaje por defecto (técnico)
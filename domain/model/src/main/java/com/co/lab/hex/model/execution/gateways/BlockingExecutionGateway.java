@@ -0,0 +1,23 @@
+package com.co.lab.hex.model.execution.gateways;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Dónde corre el código bloqueante (JDBC, generación de archivos, SDKs síncronos) que un adaptador
+ * o caso de uso no puede evitar: nunca en el event loop. El modo (bounded-elastic o hilos
+ * virtuales) se elige por configuración.
+ */
+public interface BlockingExecutionGateway {
+
+    /** Ejecuta {@code task} al suscribirse; un resultado {@code null} completa vacío. */
+    <T> Mono<T> call(Callable<T> task);
+
+    /**
+     * Entrega los elementos de {@code source} en el scheduler de bloqueo: lo que se encadene
+     * después (p. ej. armar un archivo fila a fila) corre ahí y no en el hilo que los produjo.
+     */
+    <T> Flux<T> offload(Flux<T> source);
+}
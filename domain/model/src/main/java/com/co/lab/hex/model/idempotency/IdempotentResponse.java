@@ -0,0 +1,23 @@
+package com.co.lab.hex.model.idempotency;
+
+import java.time.Instant;
+
+/**
+ * Respuesta ya entregada para un {@code Idempotency-Key}, lista para repetirse tal cual.
+ *
+ * @param fingerprint hash del payload original; otro payload con la misma clave es un conflicto
+ * @param location    cabecera {@code Location}, si la hubo
+ * @param body        cuerpo serializado
+ */
+public record IdempotentResponse(
+        String key,
+        String fingerprint,
+        int status,
+        String location,
+        String body,
+        Instant expiresAt
+) {
+    public boolean sameRequest(String otherFingerprint) {
+        return fingerprint.equals(otherFingerprint);
+    }
+}
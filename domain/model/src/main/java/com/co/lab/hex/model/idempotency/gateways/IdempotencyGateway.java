@@ -0,0 +1,15 @@
+package com.co.lab.hex.model.idempotency.gateways;
+
+import com.co.lab.hex.model.idempotency.IdempotentResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Almacén acotado en el tiempo de respuestas idempotentes.
+ * {@link #find} no devuelve entradas vencidas; {@link #save} no pisa una entrada vigente
+ * (la primera respuesta guardada para una clave es la que se repite).
+ */
+public interface IdempotencyGateway {
+    Mono<IdempotentResponse> find(String key);
+
+    Mono<Void> save(IdempotentResponse response);
+}
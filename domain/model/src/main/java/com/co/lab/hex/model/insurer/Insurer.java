@@ -0,0 +1,4 @@
+package com.co.lab.hex.model.insurer;
+
+/** Aseguradora, tal como la expone el servicio remoto de aseguradoras. */
+public record Insurer(String id, String name, boolean active) {}
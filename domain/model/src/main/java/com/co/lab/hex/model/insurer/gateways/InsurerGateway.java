@@ -0,0 +1,13 @@
+package com.co.lab.hex.model.insurer.gateways;
+
+import com.co.lab.hex.model.insurer.Insurer;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto hacia el servicio de aseguradoras.
+ * Vacío si la aseguradora no existe; si el servicio no responde, {@code CustomTechnicalException}
+ * con {@code DEPENDENCY_UNAVAILABLE}.
+ */
+public interface InsurerGateway {
+    Mono<Insurer> findById(String insurerId);
+}
@@ -0,0 +1,7 @@
+package com.co.lab.hex.model.patient;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** Paciente; el DNI es único. */
+public record Patient(UUID id, String dni, String fullName, LocalDate birthDate, String insurerId) {}
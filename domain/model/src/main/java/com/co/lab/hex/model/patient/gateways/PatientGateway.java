@@ -0,0 +1,22 @@
+package com.co.lab.hex.model.patient.gateways;
+
+import com.co.lab.hex.model.patient.Patient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de persistencia de pacientes.
+ * {@link #save} falla con {@code DUPLICATE_PATIENT} si el DNI ya existe, aunque
+ * {@link #existsByDni} haya respondido {@code false} (carrera entre creaciones concurrentes).
+ */
+public interface PatientGateway {
+    Mono<Boolean> existsByDni(String dni);
+
+    /** Falla con {@code PATIENT_NOT_FOUND} si no existe. */
+    Mono<Patient> findByDni(String dni);
+
+    Mono<Patient> save(Patient patient);
+
+    /** Todos los pacientes, leídos de la base a medida que el suscriptor pide. Sin orden garantizado. */
+    Flux<Patient> streamAll();
+}
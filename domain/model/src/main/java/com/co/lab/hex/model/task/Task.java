@@ -0,0 +1,12 @@
+package com.co.lab.hex.model.task;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** Tarea del dominio. El id y la fecha de creación se asignan antes de persistir. */
+public record Task(UUID id, String description, Instant createdAt) {
+
+    public static Task newTask(String description) {
+        return new Task(UUID.randomUUID(), description, Instant.now());
+    }
+}
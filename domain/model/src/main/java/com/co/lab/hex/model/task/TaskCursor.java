@@ -0,0 +1,15 @@
+package com.co.lab.hex.model.task;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Posición en el listado de tareas, ordenado por {@code (createdAt, id)}.
+ * La página siguiente empieza en la primera tarea estrictamente posterior (keyset).
+ */
+public record TaskCursor(Instant createdAt, UUID id) {
+
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(task.createdAt(), task.id());
+    }
+}
@@ -0,0 +1,7 @@
+package com.co.lab.hex.model.task;
+
+import java.util.List;
+
+/** Página del listado; {@code next} es {@code null} en la última. */
+public record TaskPage(List<Task> items, TaskCursor next) {
+}
@@ -0,0 +1,11 @@
+package com.co.lab.hex.model.task;
+
+/** Estado de una tarea aceptada con escritura diferida. */
+public enum TaskWriteStatus {
+    /** Aceptada, todavía en el buffer o en un lote sin confirmar. */
+    PENDING,
+    /** Confirmada en la base. */
+    PERSISTED,
+    /** El lote falló después de los reintentos: la tarea no se guardó. */
+    FAILED
+}
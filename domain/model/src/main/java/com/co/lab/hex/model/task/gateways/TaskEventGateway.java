@@ -0,0 +1,19 @@
+package com.co.lab.hex.model.task.gateways;
+
+import com.co.lab.hex.model.task.Task;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Altas de tareas para quien quiera seguirlas (feed de cambios).
+ * Publicar no bloquea ni falla: un evento perdido no deshace un alta ya confirmada.
+ */
+public interface TaskEventGateway {
+
+    /** Tareas recién confirmadas en la base por este nodo. */
+    void publish(List<Task> created);
+
+    /** Flujo caliente de altas: las de este nodo o, con un bus compartido, las de todos. */
+    Flux<Task> events();
+}
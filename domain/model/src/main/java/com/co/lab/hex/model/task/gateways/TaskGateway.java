@@ -0,0 +1,32 @@
+package com.co.lab.hex.model.task.gateways;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.TaskCursor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Puerto de persistencia de tareas.
+ * Las fallas de infraestructura se propagan como {@code CustomTechnicalException}.
+ */
+public interface TaskGateway {
+    Mono<Task> save(Task task);
+
+    /** Persiste el lote completo o ninguno; emite las tareas en el mismo orden. */
+    Flux<Task> saveAll(List<Task> tasks);
+
+    /** Vacío si no existe. */
+    Mono<Task> findById(UUID id);
+
+    /** Hasta {@code limit} tareas posteriores a {@code after} ({@code null}: desde el principio), en orden. */
+    Flux<Task> findAfter(TaskCursor after, int limit);
+
+    /**
+     * Todas las tareas posteriores a {@code after}, en orden. Las filas se leen de la base a medida
+     * que el suscriptor pide: la memoria no depende del tamaño de la tabla.
+     */
+    Flux<Task> streamAfter(TaskCursor after);
+}
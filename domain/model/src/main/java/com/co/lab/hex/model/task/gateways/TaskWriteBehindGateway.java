@@ -0,0 +1,22 @@
+package com.co.lab.hex.model.task.gateways;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.TaskWriteStatus;
+
+import java.util.UUID;
+
+/**
+ * Escritura diferida de tareas: se aceptan en memoria y se persisten después, en lotes.
+ * Hasta que el lote se confirma la tarea solo existe en el nodo que la aceptó.
+ */
+public interface TaskWriteBehindGateway {
+
+    /** {@code false}: el modo está apagado y las altas son síncronas. */
+    boolean enabled();
+
+    /** Acepta la tarea sin esperar a la base; {@code false} si el buffer está lleno o cerrándose. */
+    boolean offer(Task task);
+
+    /** {@code PENDING} o {@code FAILED} si la tarea pasó por aquí y no está confirmada; si no, {@code null}. */
+    TaskWriteStatus status(UUID id);
+}
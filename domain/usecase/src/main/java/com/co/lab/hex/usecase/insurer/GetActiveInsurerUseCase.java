@@ -0,0 +1,23 @@
+package com.co.lab.hex.usecase.insurer;
+
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.model.insurer.Insurer;
+import com.co.lab.hex.model.insurer.gateways.InsurerGateway;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.INSURER_NOT_ACTIVE;
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.INSURER_NOT_FOUND;
+
+@RequiredArgsConstructor
+public class GetActiveInsurerUseCase {
+
+    private final InsurerGateway insurerGateway;
+
+    public Mono<Insurer> getActive(String insurerId) {
+        return insurerGateway.findById(insurerId)
+                .switchIfEmpty(Mono.error(CustomBusinessException.shared(INSURER_NOT_FOUND)))
+                .filter(Insurer::active)
+                .switchIfEmpty(Mono.error(CustomBusinessException.shared(INSURER_NOT_ACTIVE)));
+    }
+}
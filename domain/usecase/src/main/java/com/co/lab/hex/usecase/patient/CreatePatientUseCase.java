@@ -0,0 +1,22 @@
+package com.co.lab.hex.usecase.patient;
+
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.model.patient.Patient;
+import com.co.lab.hex.model.patient.gateways.PatientGateway;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.DUPLICATE_PATIENT;
+
+@RequiredArgsConstructor
+public class CreatePatientUseCase {
+
+    private final PatientGateway patientGateway;
+
+    public Mono<Patient> create(Patient patient) {
+        return patientGateway.existsByDni(patient.dni())
+                .flatMap(exists -> exists
+                        ? Mono.error(CustomBusinessException.shared(DUPLICATE_PATIENT))
+                        : patientGateway.save(patient));
+    }
+}
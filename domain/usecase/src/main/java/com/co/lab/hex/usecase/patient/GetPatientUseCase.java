@@ -0,0 +1,17 @@
+package com.co.lab.hex.usecase.patient;
+
+import com.co.lab.hex.model.patient.Patient;
+import com.co.lab.hex.model.patient.gateways.PatientGateway;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class GetPatientUseCase {
+
+    private final PatientGateway patientGateway;
+
+    /** {@code PATIENT_NOT_FOUND} si el DNI no existe. */
+    public Mono<Patient> byDni(String dni) {
+        return patientGateway.findByDni(dni);
+    }
+}
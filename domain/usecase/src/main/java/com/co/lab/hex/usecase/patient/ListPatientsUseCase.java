@@ -0,0 +1,16 @@
+package com.co.lab.hex.usecase.patient;
+
+import com.co.lab.hex.model.patient.Patient;
+import com.co.lab.hex.model.patient.gateways.PatientGateway;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+public class ListPatientsUseCase {
+
+    private final PatientGateway patientGateway;
+
+    public Flux<Patient> stream() {
+        return patientGateway.streamAll();
+    }
+}
@@ -0,0 +1,48 @@
+package com.co.lab.hex.usecase.task;
+
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.exceptions.technical.CustomTechnicalException;
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.TaskWriteStatus;
+import com.co.lab.hex.model.task.gateways.TaskGateway;
+import com.co.lab.hex.model.task.gateways.TaskWriteBehindGateway;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.TASK_NOT_FOUND;
+import static com.co.lab.hex.exceptions.technical.TechnicalErrorMessages.DATABASE_UNAVAILABLE;
+
+/**
+ * Alta con persistencia diferida: la tarea queda aceptada al entrar al buffer y se confirma
+ * después. Con el buffer lleno se responde como si la base no estuviera disponible.
+ */
+@RequiredArgsConstructor
+public class AcceptTaskUseCase {
+
+    private final TaskWriteBehindGateway writeBehind;
+    private final TaskGateway taskGateway;
+
+    public boolean enabled() {
+        return writeBehind.enabled();
+    }
+
+    public Mono<Task> accept(String description) {
+        return Mono.fromSupplier(() -> Task.newTask(description))
+                .flatMap(task -> writeBehind.offer(task)
+                        ? Mono.just(task)
+                        : Mono.error(CustomTechnicalException.shared(DATABASE_UNAVAILABLE)));
+    }
+
+    /** Lo que no está en vuelo ni falló se busca en la base. */
+    public Mono<TaskWriteStatus> status(UUID id) {
+        return Mono.defer(() -> {
+            TaskWriteStatus status = writeBehind.status(id);
+            if (status != null) return Mono.just(status);
+            return taskGateway.findById(id)
+                    .map(task -> TaskWriteStatus.PERSISTED)
+                    .switchIfEmpty(Mono.error(() -> CustomBusinessException.shared(TASK_NOT_FOUND)));
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.co.lab.hex.usecase.task;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.gateways.TaskEventGateway;
+import com.co.lab.hex.model.task.gateways.TaskGateway;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+@RequiredArgsConstructor
+public class CreateTaskUseCase {
+
+    private final TaskGateway taskGateway;
+    private final TaskEventGateway taskEvents;
+
+    public Mono<Task> create(String description) {
+        return Mono.fromSupplier(() -> Task.newTask(description))
+                .flatMap(taskGateway::save)
+                .doOnNext(task -> taskEvents.publish(List.of(task)));
+    }
+
+    public Flux<Task> createAll(List<String> descriptions) {
+        return Flux.defer(() -> taskGateway.saveAll(descriptions.stream().map(Task::newTask).toList()))
+                .collectList()
+                .doOnNext(taskEvents::publish)
+                .flatMapIterable(Function.identity());
+    }
+}
@@ -0,0 +1,23 @@
+package com.co.lab.hex.usecase.task;
+
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.gateways.TaskGateway;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.TASK_NOT_FOUND;
+
+@RequiredArgsConstructor
+public class GetTaskUseCase {
+
+    private final TaskGateway taskGateway;
+
+    /** {@code TASK_NOT_FOUND} si no existe (o si es un alta diferida aún sin confirmar). */
+    public Mono<Task> byId(UUID id) {
+        return taskGateway.findById(id)
+                .switchIfEmpty(Mono.error(() -> CustomBusinessException.shared(TASK_NOT_FOUND)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.co.lab.hex.usecase.task;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.TaskCursor;
+import com.co.lab.hex.model.task.TaskPage;
+import com.co.lab.hex.model.task.gateways.TaskGateway;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/** Listado de tareas por keyset: el costo de una página no depende de su profundidad. */
+@RequiredArgsConstructor
+public class ListTasksUseCase {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final TaskGateway taskGateway;
+
+    /** Se pide una fila de más para saber si hay página siguiente sin un COUNT. */
+    public Mono<TaskPage> page(TaskCursor after, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return taskGateway.findAfter(after, size + 1)
+                .collectList()
+                .map(tasks -> {
+                    if (tasks.size() <= size) return new TaskPage(tasks, null);
+                    List<Task> items = tasks.subList(0, size);
+                    return new TaskPage(items, TaskCursor.of(items.get(size - 1)));
+                });
+    }
+
+    public Flux<Task> stream(TaskCursor after) {
+        return taskGateway.streamAfter(after);
+    }
+}
@@ -0,0 +1,123 @@
+package com.co.lab.hex.insurer;
+
+import com.co.lab.hex.model.insurer.Insurer;
+import com.co.lab.hex.model.insurer.gateways.InsurerGateway;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link InsurerGateway} de lectura a través de un cache local acotado.
+ *
+ * <ul>
+ *   <li>Entrada fresca: se responde sin red; pasado {@code refresh-after} se recarga en segundo plano.</li>
+ *   <li>Entrada vencida: se recarga en línea; si el servicio falla (o el breaker está abierto)
+ *       se sirve la copia vieja hasta {@code stale-ttl}.</li>
+ *   <li>"No existe" se cachea {@code negative-ttl}.</li>
+ *   <li>Misses concurrentes de la misma aseguradora comparten una sola llamada (single-flight).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class InsurerCacheAdapter implements InsurerGateway {
+
+    /** {@code insurer == null} representa un "no existe" cacheado. */
+    private record Entry(Insurer insurer, long loadedAtNanos) {
+        Mono<Insurer> toMono() {
+            return Mono.justOrEmpty(insurer);
+        }
+    }
+
+    private final InsurerRestClient client;
+    private final Cache<String, Entry> entries;
+    private final ConcurrentMap<String, Mono<Entry>> inFlight = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final long refreshAfterNanos;
+    private final long negativeTtlNanos;
+    private final Ticker ticker;
+
+    @Autowired
+    InsurerCacheAdapter(InsurerRestClient client, InsurerClientProperties props) {
+        this(client, props, Ticker.systemTicker());
+    }
+
+    /** {@code ticker} decide la edad de las entradas y su desalojo; los tests lo adelantan a mano. */
+    InsurerCacheAdapter(InsurerRestClient client, InsurerClientProperties props, Ticker ticker) {
+        var cache = props.cache();
+        this.client = client;
+        this.ticker = ticker;
+        this.ttlNanos = cache.ttl().toNanos();
+        this.refreshAfterNanos = cache.refreshAfter().toNanos();
+        this.negativeTtlNanos = cache.negativeTtl().toNanos();
+        // stale-ttl es la vida máxima absoluta; la frescura se decide aquí con loadedAtNanos.
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(cache.maxSize())
+                .expireAfterWrite(cache.staleTtl())
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public Mono<Insurer> findById(String insurerId) {
+        return Mono.defer(() -> {
+            Entry cached = entries.getIfPresent(insurerId);
+            if (cached == null) {
+                return load(insurerId).flatMap(Entry::toMono);
+            }
+            long age = ticker.read() - cached.loadedAtNanos();
+            boolean negative = cached.insurer() == null;
+            if (age < (negative ? negativeTtlNanos : ttlNanos)) {
+                if (!negative && age >= refreshAfterNanos) refreshInBackground(insurerId);
+                return cached.toMono();
+            }
+            Mono<Entry> reload = load(insurerId);
+            if (!negative) {
+                reload = reload.onErrorResume(e -> {
+                    log.warn("Insurer service failed, serving stale entry. insurerId={}, error={}", insurerId, e.toString());
+                    return Mono.just(cached);
+                });
+            }
+            return reload.flatMap(Entry::toMono);
+        });
+    }
+
+    private void refreshInBackground(String insurerId) {
+        load(insurerId).subscribe(
+                entry -> { },
+                e -> log.debug("Insurer refresh-ahead failed. insurerId={}, error={}", insurerId, e.toString()));
+    }
+
+    /**
+     * Una sola llamada en vuelo por aseguradora. La llamada se suscribe aquí, no en cada llamador,
+     * así una cancelación del cliente no deja el cache sin llenar.
+     */
+    private Mono<Entry> load(String insurerId) {
+        Sinks.One<Entry> result = Sinks.one();
+        Mono<Entry> shared = result.asMono();
+        Mono<Entry> existing = inFlight.putIfAbsent(insurerId, shared);
+        if (existing != null) return existing;
+
+        client.fetch(insurerId)
+                .map(insurer -> new Entry(insurer, ticker.read()))
+                .switchIfEmpty(Mono.fromSupplier(() -> new Entry(null, ticker.read())))
+                .subscribe(
+                        entry -> {
+                            entries.put(insurerId, entry);
+                            inFlight.remove(insurerId, shared);
+                            result.tryEmitValue(entry);
+                        },
+                        e -> {
+                            inFlight.remove(insurerId, shared);
+                            result.tryEmitError(e);
+                        });
+        return shared;
+    }
+}
@@ -0,0 +1,46 @@
+package com.co.lab.hex.insurer;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+@Configuration
+@EnableConfigurationProperties(InsurerClientProperties.class)
+public class InsurerClientConfig {
+
+    /** Nombre de la instancia en {@code resilience4j.circuitbreaker.instances}. */
+    public static final String CIRCUIT_BREAKER = "insurer";
+
+    /** Nombre de la instancia en {@code resilience4j.bulkhead.instances}. */
+    public static final String BULKHEAD = "insurer";
+
+    @Bean
+    public WebClient insurerWebClient(WebClient.Builder builder, InsurerClientProperties props) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) props.connectTimeout().toMillis())
+                .responseTimeout(props.responseTimeout());
+        return builder.clone()
+                .baseUrl(props.baseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Bean
+    public CircuitBreaker insurerCircuitBreaker(CircuitBreakerRegistry registry) {
+        return registry.circuitBreaker(CIRCUIT_BREAKER);
+    }
+
+    /** Semáforo: acota las llamadas simultáneas al servicio; el exceso falla en el acto. */
+    @Bean
+    public Bulkhead insurerBulkhead(BulkheadRegistry registry) {
+        return registry.bulkhead(BULKHEAD);
+    }
+}
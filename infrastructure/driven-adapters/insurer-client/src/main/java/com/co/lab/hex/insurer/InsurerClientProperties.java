@@ -0,0 +1,30 @@
+package com.co.lab.hex.insurer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Cliente del servicio de aseguradoras ({@code adapters.insurer.*}).
+ *
+ * <p>Vida de una entrada del cache: fresca hasta {@code ttl} (se recarga en segundo plano desde
+ * {@code refresh-after}); pasado el ttl se recarga en línea, pero si el servicio falla se sirve la
+ * copia vieja mientras no supere {@code stale-ttl}. Los "no existe" se recuerdan {@code negative-ttl}.
+ */
+@ConfigurationProperties(prefix = "adapters.insurer")
+public record InsurerClientProperties(
+        String baseUrl,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("2s") Duration responseTimeout,
+        @DefaultValue Cache cache
+) {
+
+    public record Cache(
+            @DefaultValue("10000") long maxSize,
+            @DefaultValue("5m") Duration ttl,
+            @DefaultValue("4m") Duration refreshAfter,
+            @DefaultValue("30s") Duration negativeTtl,
+            @DefaultValue("1h") Duration staleTtl
+    ) {}
+}
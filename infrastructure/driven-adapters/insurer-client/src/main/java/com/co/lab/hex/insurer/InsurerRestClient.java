@@ -0,0 +1,71 @@
+package com.co.lab.hex.insurer;
+
+import com.co.lab.hex.exceptions.technical.CustomTechnicalException;
+import com.co.lab.hex.exceptions.technical.TechnicalErrorMessages;
+import com.co.lab.hex.model.insurer.Insurer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Llamada HTTP al servicio de aseguradoras, protegida por el circuit breaker {@code insurer}.
+ * Un 404 es una respuesta válida (vacío) y no cuenta como falla del breaker.
+ *
+ * <p>Por fuera del breaker va el bulkhead {@code insurer}: un rechazo por bulkhead lleno no
+ * cuenta como falla del servicio y llega como {@link BulkheadFullException} (503).
+ */
+@Component
+class InsurerRestClient {
+
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    InsurerRestClient(@Qualifier("insurerWebClient") WebClient webClient,
+                      @Qualifier("insurerCircuitBreaker") CircuitBreaker circuitBreaker,
+                      @Qualifier("insurerBulkhead") Bulkhead bulkhead) {
+        this.webClient = webClient;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    Mono<Insurer> fetch(String insurerId) {
+        return webClient.get()
+                .uri("/insurers/{id}", insurerId)
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                        return response.releaseBody().then(Mono.<InsurerResponse>empty());
+                    }
+                    if (response.statusCode().is2xxSuccessful()) {
+                        return response.bodyToMono(InsurerResponse.class);
+                    }
+                    return response.createError();
+                })
+                .map(InsurerResponse::toDomain)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(InsurerRestClient::toDomain)
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+
+    private static Throwable toDomain(Throwable error) {
+        // Circuito abierto: rechazo local sin valor diagnóstico, no vale la pena un stack por petición.
+        if (error instanceof CallNotPermittedException) {
+            return CustomTechnicalException.shared(TechnicalErrorMessages.DEPENDENCY_UNAVAILABLE);
+        }
+        return CustomTechnicalException.stackless(TechnicalErrorMessages.DEPENDENCY_UNAVAILABLE, error);
+    }
+
+    record InsurerResponse(String id, String name, boolean active) {
+        Insurer toDomain() {
+            return new Insurer(id, name, active);
+        }
+    }
+}
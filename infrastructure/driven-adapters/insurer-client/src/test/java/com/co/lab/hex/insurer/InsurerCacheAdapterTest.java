@@ -0,0 +1,181 @@
+package com.co.lab.hex.insurer;
+
+import com.co.lab.hex.exceptions.technical.CustomTechnicalException;
+import com.co.lab.hex.exceptions.technical.TechnicalErrorMessages;
+import com.co.lab.hex.model.insurer.Insurer;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link InsurerCacheAdapter} contra {@link StubInsurerService}: HTTP, breaker y bulkhead reales;
+ * el tiempo del cache lo maneja un {@link Ticker} que el test adelanta.
+ */
+class InsurerCacheAdapterTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(4);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+    private static final Duration STALE_TTL = Duration.ofHours(1);
+    private static final int BREAKER_WINDOW = 4;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private StubInsurerService stub;
+    private CircuitBreaker breaker;
+    private InsurerCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        stub = new StubInsurerService();
+        var props = new InsurerClientProperties(stub.baseUrl(), Duration.ofSeconds(1), Duration.ofSeconds(2),
+                new InsurerClientProperties.Cache(100, TTL, REFRESH_AFTER, NEGATIVE_TTL, STALE_TTL));
+        breaker = CircuitBreaker.of(InsurerClientConfig.CIRCUIT_BREAKER, CircuitBreakerConfig.custom()
+                .slidingWindowSize(BREAKER_WINDOW)
+                .minimumNumberOfCalls(BREAKER_WINDOW)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofHours(1))
+                .build());
+        var client = new InsurerRestClient(new InsurerClientConfig().insurerWebClient(WebClient.builder(), props),
+                breaker, Bulkhead.ofDefaults(InsurerClientConfig.BULKHEAD));
+        adapter = new InsurerCacheAdapter(client, props, nanos::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void freshEntryIsServedWithoutCallingTheService() {
+        expectName("acme", "acme-v1");
+        advance(Duration.ofMinutes(1));
+        expectName("acme", "acme-v1");
+
+        assertThat(stub.calls("acme")).isEqualTo(1);
+    }
+
+    @Test
+    void refreshAheadServesTheCachedEntryAndReloadsInBackground() {
+        expectName("acme", "acme-v1");
+        advance(REFRESH_AFTER.plusSeconds(30));
+
+        expectName("acme", "acme-v1");
+        await(() -> stub.calls("acme") == 2);
+        await(() -> "acme-v2".equals(adapter.findById("acme").map(Insurer::name).block()));
+        assertThat(stub.calls("acme")).isEqualTo(2);
+    }
+
+    @Test
+    void expiredEntryIsReloadedInline() {
+        expectName("acme", "acme-v1");
+        advance(TTL.plusSeconds(1));
+
+        expectName("acme", "acme-v2");
+        assertThat(stub.calls("acme")).isEqualTo(2);
+    }
+
+    @Test
+    void notFoundIsCachedForTheNegativeTtl() {
+        stub.behavior((id, call) -> StubInsurerService.Reply.status(404));
+
+        StepVerifier.create(adapter.findById("ghost")).verifyComplete();
+        advance(NEGATIVE_TTL.minusSeconds(1));
+        StepVerifier.create(adapter.findById("ghost")).verifyComplete();
+        assertThat(stub.calls("ghost")).isEqualTo(1);
+
+        advance(Duration.ofSeconds(2));
+        StepVerifier.create(adapter.findById("ghost")).verifyComplete();
+        assertThat(stub.calls("ghost")).isEqualTo(2);
+        assertThat(breaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    void concurrentMissesShareOneCall() {
+        stub.behavior((id, call) -> StubInsurerService.VERSIONED.reply(id, call).delayed(Duration.ofMillis(200)));
+
+        List<String> names = Flux.range(0, 20)
+                .flatMap(i -> adapter.findById("acme").map(Insurer::name), 20)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(names).hasSize(20).containsOnly("acme-v1");
+        assertThat(stub.calls("acme")).isEqualTo(1);
+    }
+
+    @Test
+    void staleEntryIsServedWhileTheServiceFailsAndOnceTheBreakerOpens() {
+        expectName("acme", "acme-v1");
+        stub.behavior((id, call) -> StubInsurerService.Reply.status(500));
+        advance(TTL.plusSeconds(1));
+
+        for (int i = 0; i < BREAKER_WINDOW; i++) expectName("acme", "acme-v1");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        int callsWhenOpened = stub.calls("acme");
+
+        expectName("acme", "acme-v1");
+        expectName("acme", "acme-v1");
+        assertThat(stub.calls("acme")).isEqualTo(callsWhenOpened);
+    }
+
+    @Test
+    void missWithOpenBreakerFailsWithoutCallingTheService() {
+        breaker.transitionToOpenState();
+
+        expectUnavailable("acme");
+        assertThat(stub.calls("acme")).isZero();
+    }
+
+    @Test
+    void staleEntryIsDroppedAfterStaleTtl() {
+        expectName("acme", "acme-v1");
+        stub.behavior((id, call) -> StubInsurerService.Reply.status(500));
+        advance(STALE_TTL.plusSeconds(1));
+
+        expectUnavailable("acme");
+    }
+
+    private void expectName(String id, String name) {
+        StepVerifier.create(adapter.findById(id).map(Insurer::name))
+                .expectNext(name)
+                .verifyComplete();
+    }
+
+    private void expectUnavailable(String id) {
+        StepVerifier.create(adapter.findById(id))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOfSatisfying(CustomTechnicalException.class, cte -> assertThat(cte.getCatalogEntry())
+                                .isEqualTo(TechnicalErrorMessages.DEPENDENCY_UNAVAILABLE)))
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
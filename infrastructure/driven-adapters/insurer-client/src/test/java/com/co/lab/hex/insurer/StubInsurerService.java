@@ -0,0 +1,79 @@
+package com.co.lab.hex.insurer;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servicio de aseguradoras falso sobre Reactor Netty, en un puerto libre de loopback.
+ * Cuenta las llamadas por id y responde lo que diga {@link #behavior}.
+ */
+final class StubInsurerService implements AutoCloseable {
+
+    record Reply(int status, String body, Duration delay) {
+        static Reply ok(String id, String name) {
+            return new Reply(200, "{\"id\":\"" + id + "\",\"name\":\"" + name + "\",\"active\":true}", Duration.ZERO);
+        }
+
+        static Reply status(int status) {
+            return new Reply(status, null, Duration.ZERO);
+        }
+
+        Reply delayed(Duration delay) {
+            return new Reply(status, body, delay);
+        }
+    }
+
+    @FunctionalInterface
+    interface Behavior {
+        /** {@code call} es 1 en la primera llamada para ese id. */
+        Reply reply(String id, int call);
+    }
+
+    /** Por defecto: existe y el nombre lleva el número de llamada, para distinguir recargas. */
+    static final Behavior VERSIONED = (id, call) -> Reply.ok(id, id + "-v" + call);
+
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private volatile Behavior behavior = VERSIONED;
+    private final DisposableServer server;
+
+    StubInsurerService() {
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.get("/insurers/{id}", (request, response) -> {
+                    String id = request.param("id");
+                    Reply reply = behavior.reply(id, calls.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet());
+                    Mono<Void> send = reply.body() == null
+                            ? Mono.from(response.status(reply.status()).send())
+                            : Mono.from(response.status(reply.status())
+                                    .header("Content-Type", "application/json")
+                                    .sendString(Mono.just(reply.body())));
+                    return reply.delay().isZero() ? send : Mono.delay(reply.delay()).then(send);
+                }))
+                .bindNow();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    void behavior(Behavior behavior) {
+        this.behavior = behavior;
+    }
+
+    int calls(String id) {
+        AtomicInteger n = calls.get(id);
+        return n == null ? 0 : n.get();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}
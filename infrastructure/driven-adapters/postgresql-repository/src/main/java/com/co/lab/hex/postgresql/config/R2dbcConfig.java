@@ -0,0 +1,87 @@
+package com.co.lab.hex.postgresql.config;
+
+import com.co.lab.hex.postgresql.idempotency.IdempotencyStoreProperties;
+import com.co.lab.hex.postgresql.patient.DniFilterProperties;
+import com.co.lab.hex.postgresql.patient.PatientLookupProperties;
+import com.co.lab.hex.postgresql.patient.PatientQueryProperties;
+import com.co.lab.hex.postgresql.task.TaskInsertProperties;
+import com.co.lab.hex.postgresql.task.TaskNotifyProperties;
+import com.co.lab.hex.postgresql.task.TaskQueryProperties;
+import com.co.lab.hex.postgresql.task.TaskWriteBehindProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Option;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.*;
+
+@Configuration
+@EnableConfigurationProperties({R2dbcProperties.class, TaskInsertProperties.class, TaskQueryProperties.class,
+        TaskWriteBehindProperties.class, TaskNotifyProperties.class, DniFilterProperties.class,
+        PatientQueryProperties.class, PatientLookupProperties.class, IdempotencyStoreProperties.class})
+public class R2dbcConfig {
+
+    private static final Option<Object> PREPARED_STATEMENT_CACHE =
+            Option.valueOf("preparedStatementCacheQueries");
+
+    /**
+     * Pool de conexiones con límites explícitos: sin {@code maxAcquireTime} una base lenta
+     * deja las peticiones esperando conexión hasta el timeout de Netty (504).
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(R2dbcProperties props) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.builder()
+                .option(DRIVER, props.driver())
+                .option(HOST, props.host())
+                .option(PORT, props.port())
+                .option(PREPARED_STATEMENT_CACHE, props.pool().preparedStatementCacheQueries());
+        if (props.database() != null) options.option(DATABASE, props.database());
+        if (props.username() != null) options.option(USER, props.username());
+        if (props.password() != null) options.option(PASSWORD, props.password());
+
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+        R2dbcProperties.Pool pool = props.pool();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("hex-r2dbc")
+                .initialSize(pool.initialSize())
+                .maxSize(pool.maxSize())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .maxAcquireTime(pool.maxAcquireTime())
+                .maxCreateConnectionTime(pool.maxCreateConnectionTime())
+                .acquireRetry(pool.acquireRetry())
+                .build());
+    }
+
+    @Bean
+    public StreamingReadLimiter streamingReadLimiter(R2dbcProperties props, MeterRegistry registry) {
+        return new StreamingReadLimiter(props.pool().maxStreamingReads(), registry);
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /** Solo para entornos locales / bases de prueba; en producción el esquema lo gestiona la migración. */
+    @Bean
+    @ConditionalOnProperty(prefix = "adapters.r2dbc", name = "init-schema", havingValue = "true")
+    public ConnectionFactoryInitializer schemaInitializer(ConnectionFactory connectionFactory) {
+        var initializer = new ConnectionFactoryInitializer();
+        initializer.setConnectionFactory(connectionFactory);
+        initializer.setDatabasePopulator(
+                new ResourceDatabasePopulator(new ClassPathResource("db/postgresql/schema.sql")));
+        return initializer;
+    }
+}
@@ -0,0 +1,56 @@
+package com.co.lab.hex.postgresql.config;
+
+import com.co.lab.hex.exceptions.DomainException;
+import com.co.lab.hex.exceptions.business.BusinessErrorMessages;
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.exceptions.technical.CustomTechnicalException;
+import com.co.lab.hex.exceptions.technical.TechnicalErrorMessages;
+import io.r2dbc.spi.R2dbcBadGrammarException;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.R2dbcException;
+
+/** Traducción de fallas del driver/pool a errores del catálogo. */
+public final class R2dbcErrors {
+    private R2dbcErrors() {}
+
+    /**
+     * Un dato que la base rechaza (SQLState clase 22 o 23: NUL (U+0000) en un texto, valor fuera de
+     * rango, {@code NOT NULL}...) es {@code PRB-009}: repetirlo da lo mismo y no habla de la salud de
+     * la base. Toda otra falla que no sea ya de dominio se expone como {@code PRT-003}. La excepción no
+     * recorre la pila (en una caída de la base llegan miles); el log muestra el stack del driver vía
+     * la causa.
+     */
+    public static Throwable toDomain(Throwable error) {
+        if (error instanceof DomainException) return error;
+        if (isRejectedData(error)) return CustomBusinessException.shared(BusinessErrorMessages.DATA_REJECTED);
+        return CustomTechnicalException.stackless(TechnicalErrorMessages.DATABASE_UNAVAILABLE, error);
+    }
+
+    /** La base rechazó los valores (clases 22/23); la misma sentencia va a fallar igual. */
+    public static boolean isRejectedData(Throwable error) {
+        R2dbcException e = driverError(error);
+        if (e instanceof R2dbcDataIntegrityViolationException) return true;
+        String state = e == null ? null : e.getSqlState();
+        return state != null && (state.startsWith("22") || state.startsWith("23"));
+    }
+
+    /**
+     * Reintentar no sirve: datos rechazados o SQL inválido (clase 42). En un lote multi-fila vale la
+     * pena partirlo para aislar la fila culpable; las demás fallas (conexión, timeout) son del lote entero.
+     */
+    public static boolean isPermanent(Throwable error) {
+        if (isRejectedData(error)) return true;
+        R2dbcException e = driverError(error);
+        if (e instanceof R2dbcBadGrammarException) return true;
+        String state = e == null ? null : e.getSqlState();
+        return state != null && state.startsWith("42");
+    }
+
+    /** Spring envuelve la excepción del driver ({@code DataAccessException}); se busca en las causas. */
+    private static R2dbcException driverError(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof R2dbcException e) return e;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.co.lab.hex.postgresql.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Conexión y pool R2DBC del adaptador ({@code adapters.r2dbc.*}).
+ * Se configura aparte porque {@code R2dbcAutoConfiguration} está excluida en la aplicación.
+ *
+ * <p>{@code pool.max-streaming-reads} acota las lecturas en streaming (listados NDJSON/SSE,
+ * exportaciones) abiertas a la vez: cada una retiene una conexión mientras dure la descarga, y
+ * sin este tope unas pocas descargas lentas agotan el pool para las peticiones cortas. Debe
+ * quedar por debajo de {@code pool.max-size}.
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc")
+public record R2dbcProperties(
+        @DefaultValue("postgresql") String driver,
+        @DefaultValue("localhost") String host,
+        @DefaultValue("5432") int port,
+        String database,
+        String username,
+        String password,
+        @DefaultValue("false") boolean initSchema,
+        @DefaultValue Pool pool
+) {
+
+    public record Pool(
+            @DefaultValue("4") int initialSize,
+            @DefaultValue("16") int maxSize,
+            @DefaultValue("30m") Duration maxIdleTime,
+            @DefaultValue("1h") Duration maxLifeTime,
+            @DefaultValue("3s") Duration maxAcquireTime,
+            @DefaultValue("5s") Duration maxCreateConnectionTime,
+            @DefaultValue("2") int acquireRetry,
+            @DefaultValue("256") int preparedStatementCacheQueries,
+            @DefaultValue("4") int maxStreamingReads
+    ) {}
+}
@@ -0,0 +1,42 @@
+package com.co.lab.hex.postgresql.config;
+
+import com.co.lab.hex.exceptions.technical.CustomTechnicalException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.Semaphore;
+
+import static com.co.lab.hex.exceptions.technical.TechnicalErrorMessages.SERVICE_OVERLOADED;
+
+/**
+ * Tope de lecturas en streaming abiertas ({@code adapters.r2dbc.pool.max-streaming-reads}).
+ *
+ * <p>El permiso se toma al suscribirse y se devuelve al terminar, fallar o cancelarse el stream.
+ * Sin permiso libre se rechaza en el acto con {@code SERVICE_OVERLOADED} (503) en lugar de
+ * esperar una conexión: la respuesta todavía no empezó y el cliente puede reintentar.
+ */
+public class StreamingReadLimiter {
+
+    private final int maxStreams;
+    private final Semaphore permits;
+
+    public StreamingReadLimiter(int maxStreams, MeterRegistry registry) {
+        this.maxStreams = maxStreams;
+        this.permits = new Semaphore(maxStreams);
+        Gauge.builder("r2dbc.streaming_reads.active", this, StreamingReadLimiter::active)
+                .description("Streaming reads holding a pooled connection")
+                .register(registry);
+    }
+
+    public <T> Flux<T> limit(Flux<T> stream) {
+        return Flux.defer(() -> {
+            if (!permits.tryAcquire()) return Flux.error(CustomTechnicalException.shared(SERVICE_OVERLOADED));
+            return stream.doFinally(signal -> permits.release());
+        });
+    }
+
+    public int active() {
+        return maxStreams - permits.availablePermits();
+    }
+}
@@ -0,0 +1,103 @@
+package com.co.lab.hex.postgresql.idempotency;
+
+import com.co.lab.hex.model.idempotency.IdempotentResponse;
+import com.co.lab.hex.model.idempotency.gateways.IdempotencyGateway;
+import com.co.lab.hex.postgresql.config.R2dbcErrors;
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * {@link IdempotencyGateway} sobre la tabla {@code idempotency_keys}, compartido entre nodos.
+ *
+ * <p>El alta es {@code INSERT ... ON CONFLICT}: una fila vigente no se pisa (gana la primera
+ * respuesta guardada) y una vencida se reemplaza sin esperar a la purga.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "adapters.r2dbc.idempotency", name = "enabled", havingValue = "true")
+public class IdempotencyR2dbcAdapter implements IdempotencyGateway, DisposableBean {
+
+    private static final String FIND = """
+            SELECT idem_key, fingerprint, status, location, body, expires_at
+            FROM idempotency_keys WHERE idem_key = $1 AND expires_at > now()""";
+    private static final String UPSERT_EXPIRED = """
+            INSERT INTO idempotency_keys (idem_key, fingerprint, status, location, body, expires_at)
+            VALUES ($1, $2, $3, $4, $5, $6)
+            ON CONFLICT (idem_key) DO UPDATE SET
+                fingerprint = EXCLUDED.fingerprint, status = EXCLUDED.status, location = EXCLUDED.location,
+                body = EXCLUDED.body, expires_at = EXCLUDED.expires_at
+            WHERE idempotency_keys.expires_at <= now()""";
+    private static final String PURGE = "DELETE FROM idempotency_keys WHERE expires_at <= now()";
+
+    private final DatabaseClient client;
+    private final IdempotencyStoreProperties props;
+    private volatile Disposable purge;
+
+    public IdempotencyR2dbcAdapter(DatabaseClient client, IdempotencyStoreProperties props) {
+        this.client = client;
+        this.props = props;
+    }
+
+    @Override
+    public Mono<IdempotentResponse> find(String key) {
+        return client.sql(FIND)
+                .bind(0, key)
+                .map(IdempotencyR2dbcAdapter::toResponse)
+                .one()
+                .onErrorMap(R2dbcErrors::toDomain);
+    }
+
+    @Override
+    public Mono<Void> save(IdempotentResponse response) {
+        var spec = client.sql(UPSERT_EXPIRED)
+                .bind(0, response.key())
+                .bind(1, response.fingerprint())
+                .bind(2, response.status());
+        spec = response.location() == null ? spec.bindNull(3, String.class) : spec.bind(3, response.location());
+        return spec.bind(4, response.body())
+                .bind(5, response.expiresAt())
+                .fetch().rowsUpdated()
+                .then()
+                .onErrorMap(R2dbcErrors::toDomain);
+    }
+
+    /** La purga arranca con la aplicación lista, cuando el esquema ya existe. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPurge() {
+        purge = Flux.interval(props.purgeInterval())
+                .concatMap(tick -> client.sql(PURGE).fetch().rowsUpdated()
+                        .onErrorResume(e -> {
+                            log.warn("Idempotency purge failed. error={}", e.toString());
+                            return Mono.empty();
+                        }))
+                .subscribe(rows -> {
+                    if (rows > 0) log.debug("Idempotency keys purged. rows={}", rows);
+                });
+    }
+
+    @Override
+    public void destroy() {
+        if (purge != null) purge.dispose();
+    }
+
+    private static IdempotentResponse toResponse(Readable row) {
+        return new IdempotentResponse(
+                row.get("idem_key", String.class),
+                row.get("fingerprint", String.class),
+                row.get("status", Integer.class),
+                row.get("location", String.class),
+                row.get("body", String.class),
+                row.get("expires_at", Instant.class));
+    }
+}
@@ -0,0 +1,18 @@
+package com.co.lab.hex.postgresql.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Almacén de respuestas idempotentes en Postgres ({@code adapters.r2dbc.idempotency.*}).
+ *
+ * <p>Apagado por defecto (se usa el almacén en memoria). Las filas vencidas dejan de leerse
+ * enseguida y se borran cada {@code purge-interval}.
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.idempotency")
+public record IdempotencyStoreProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10m") Duration purgeInterval
+) {}
@@ -0,0 +1,84 @@
+package com.co.lab.hex.postgresql.patient;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom concurrente y sin locks sobre {@link AtomicLongArray}.
+ *
+ * <p>"No contiene" es definitivo; "puede contener" hay que confirmarlo en la base.
+ * Solo se agregan elementos (no hay borrado), lo que basta porque un DNI no deja de existir.
+ */
+final class DniBloomFilter {
+
+    private static final int MAX_HASHES = 16;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashes;
+    private final LongAdder insertions = new LongAdder();
+
+    DniBloomFilter(long memoryBytes, long expectedInsertions) {
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, memoryBytes / Long.BYTES));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        long n = Math.max(1, expectedInsertions);
+        this.hashes = (int) Math.max(1, Math.min(MAX_HASHES, Math.round((double) bitCount / n * Math.log(2))));
+    }
+
+    void put(String dni) {
+        long h = hash(dni);
+        long h1 = mix(h);
+        long h2 = mix(h ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, m) -> current | m);
+            }
+        }
+        insertions.increment();
+    }
+
+    boolean mightContain(String dni) {
+        long h = hash(dni);
+        long h1 = mix(h);
+        long h2 = mix(h ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /** Tasa de falsos positivos teórica para las inserciones hechas hasta ahora. */
+    double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-hashes * (double) insertions.sum() / bitCount), hashes);
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashes() {
+        return hashes;
+    }
+
+    /** FNV-1a de 64 bits sobre los chars; el mezclado posterior reparte los bits. */
+    private static long hash(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /** Finalizador de MurmurHash3 (fmix64). */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,20 @@
+package com.co.lab.hex.postgresql.patient;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Filtro de Bloom de DNIs ({@code adapters.r2dbc.patient-dni-filter.*}).
+ *
+ * <p>{@code memory-budget} fija el tamaño del arreglo de bits; con {@code expected-dnis} se
+ * calcula el número de hashes óptimo. Con 4MB y 2M DNIs la tasa de falsos positivos
+ * esperada ronda el 0,05%.
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.patient-dni-filter")
+public record DniFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("4MB") DataSize memoryBudget,
+        @DefaultValue("2000000") long expectedDnis,
+        @DefaultValue("10000") int loadFetchSize
+) {}
@@ -0,0 +1,104 @@
+package com.co.lab.hex.postgresql.patient;
+
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.model.patient.Patient;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.PATIENT_NOT_FOUND;
+
+/**
+ * Une las búsquedas por DNI concurrentes en una sola consulta.
+ *
+ * <p>Cada {@link #load(String)} encola el DNI y espera su lote; el lote se cierra al llenarse o al
+ * vencer la ventana, se consulta con {@code dni = ANY($1)} (DNIs repetidos una sola vez) y cada
+ * llamador recibe su paciente o {@code PATIENT_NOT_FOUND}. Hasta {@code concurrency} lotes viajan
+ * en paralelo.
+ */
+@Slf4j
+final class PatientDniLoader implements Disposable {
+
+    private record Pending(String dni, Sinks.One<Patient> result) {}
+
+    private final DatabaseClient client;
+    private final Sinks.Many<Pending> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final DistributionSummary batchSize;
+    private final DistributionSummary distinctDnis;
+    private final Disposable pipeline;
+
+    PatientDniLoader(DatabaseClient client, PatientLookupProperties props, MeterRegistry registry) {
+        this.client = client;
+        this.batchSize = DistributionSummary.builder("patient.dni_loader.batch_size")
+                .description("Lookups answered by one WHERE dni = ANY($1) query")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.distinctDnis = DistributionSummary.builder("patient.dni_loader.distinct_dnis")
+                .description("Distinct DNIs sent per batched query")
+                .register(registry);
+        this.pipeline = queue.asFlux()
+                .bufferTimeout(props.maxBatchSize(), props.window(), true)
+                .flatMap(this::flush, props.concurrency())
+                .subscribe(null, e -> log.error("Patient DNI loader stopped; new lookups will not complete", e));
+    }
+
+    Mono<Patient> load(String dni) {
+        return Mono.defer(() -> {
+            Sinks.One<Patient> result = Sinks.one();
+            Sinks.EmitResult emitted;
+            // Productores concurrentes: el sink rechaza la emisión simultánea, se reintenta sin bloquear.
+            while ((emitted = queue.tryEmitNext(new Pending(dni, result))) == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                Thread.onSpinWait();
+            }
+            if (emitted.isFailure()) {
+                return Mono.error(new IllegalStateException("Patient DNI loader is not accepting lookups: " + emitted));
+            }
+            return result.asMono();
+        });
+    }
+
+    /** Como en el batcher de tareas, la consulta se arma dentro de {@code defer} para no cortar el pipeline. */
+    private Mono<Void> flush(List<Pending> batch) {
+        String[] dnis = batch.stream().map(Pending::dni).distinct().toArray(String[]::new);
+        batchSize.record(batch.size());
+        distinctDnis.record(dnis.length);
+        return Mono.defer(() -> client.sql(PatientR2dbcAdapter.BY_DNIS)
+                        .bind(0, dnis)
+                        .map(PatientR2dbcAdapter::toPatient)
+                        .all()
+                        .collectMap(Patient::dni))
+                .doOnNext(found -> complete(batch, found))
+                .doOnError(e -> batch.forEach(p -> p.result().tryEmitError(e)))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private static void complete(List<Pending> batch, Map<String, Patient> found) {
+        for (Pending p : batch) {
+            Patient patient = found.get(p.dni());
+            if (patient != null) {
+                p.result().tryEmitValue(patient);
+            } else {
+                p.result().tryEmitError(CustomBusinessException.shared(PATIENT_NOT_FOUND));
+            }
+        }
+    }
+
+    /** Cierra la cola: los lotes ya encolados se resuelven antes de completar. */
+    @Override
+    public void dispose() {
+        queue.tryEmitComplete();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return pipeline.isDisposed();
+    }
+}
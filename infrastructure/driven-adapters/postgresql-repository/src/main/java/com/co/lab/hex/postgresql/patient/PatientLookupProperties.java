@@ -0,0 +1,20 @@
+package com.co.lab.hex.postgresql.patient;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Búsquedas de pacientes por DNI ({@code adapters.r2dbc.patient-lookup.*}).
+ *
+ * <p>Con {@code batch-enabled} las búsquedas que llegan dentro de {@code window} (o hasta
+ * {@code max-batch-size}) se resuelven en un único {@code WHERE dni = ANY($1)}.
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.patient-lookup")
+public record PatientLookupProperties(
+        @DefaultValue("true") boolean batchEnabled,
+        @DefaultValue("128") int maxBatchSize,
+        @DefaultValue("500us") Duration window,
+        @DefaultValue("4") int concurrency
+) {}
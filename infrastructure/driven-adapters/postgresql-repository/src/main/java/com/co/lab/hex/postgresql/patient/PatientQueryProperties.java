@@ -0,0 +1,13 @@
+package com.co.lab.hex.postgresql.patient;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Lecturas de pacientes ({@code adapters.r2dbc.patient-query.*}).
+ * {@code stream-fetch-size} es cuántas filas trae el driver por ida a la base en las exportaciones.
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.patient-query")
+public record PatientQueryProperties(
+        @DefaultValue("500") int streamFetchSize
+) {}
@@ -0,0 +1,192 @@
+package com.co.lab.hex.postgresql.patient;
+
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.model.patient.Patient;
+import com.co.lab.hex.model.patient.gateways.PatientGateway;
+import com.co.lab.hex.postgresql.config.R2dbcErrors;
+import com.co.lab.hex.postgresql.config.StreamingReadLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.DUPLICATE_PATIENT;
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.PATIENT_NOT_FOUND;
+
+/**
+ * Persistencia de pacientes con un filtro de Bloom de DNIs delante de {@link #existsByDni}.
+ *
+ * <p>El filtro se llena al arrancar recorriendo la tabla en streaming y se actualiza en cada alta.
+ * Mientras no termina la carga todas las consultas van a la base. Como el filtro es local al nodo,
+ * un DNI dado de alta en otro nodo puede no estar: el índice único {@code ux_patients_dni} sigue
+ * siendo la garantía y su violación se traduce a {@code DUPLICATE_PATIENT}.
+ *
+ * <p>{@link #findByDni} no usa el filtro: sin un aviso entre nodos de las altas ajenas, un "no" local
+ * respondería 404 por un paciente que existe. Va siempre a la base y, con
+ * {@code patient-lookup.batch-enabled}, agrupa las búsquedas concurrentes en {@link PatientDniLoader}.
+ */
+@Slf4j
+@Repository
+public class PatientR2dbcAdapter implements PatientGateway, DisposableBean {
+
+    private static final String EXISTS = "SELECT EXISTS (SELECT 1 FROM patients WHERE dni = $1)";
+    private static final String INSERT =
+            "INSERT INTO patients (id, dni, full_name, birth_date, insurer_id) VALUES ($1, $2, $3, $4, $5)";
+    private static final String ALL_DNIS = "SELECT dni FROM patients";
+    private static final String ALL = "SELECT id, dni, full_name, birth_date, insurer_id FROM patients";
+    private static final String BY_DNI = ALL + " WHERE dni = $1";
+    static final String BY_DNIS = ALL + " WHERE dni = ANY($1)";
+
+    private final DatabaseClient client;
+    private final DniFilterProperties props;
+    private final int streamFetchSize;
+    private final StreamingReadLimiter streams;
+    private final DniBloomFilter filter;
+    private volatile boolean filterReady;
+    private final PatientDniLoader loader;
+
+    private final Counter skippedQueries;
+    private final Counter databaseChecks;
+    private final Counter falsePositives;
+
+    public PatientR2dbcAdapter(DatabaseClient client, DniFilterProperties props, PatientQueryProperties queryProps,
+                               PatientLookupProperties lookupProps, StreamingReadLimiter streams,
+                               MeterRegistry registry) {
+        this.client = client;
+        this.streams = streams;
+        this.loader = lookupProps.batchEnabled() ? new PatientDniLoader(client, lookupProps, registry) : null;
+        this.props = props;
+        this.streamFetchSize = queryProps.streamFetchSize();
+        this.filter = props.enabled()
+                ? new DniBloomFilter(props.memoryBudget().toBytes(), props.expectedDnis())
+                : null;
+        this.skippedQueries = Counter.builder("patient.dni_filter.checks").tag("result", "negative")
+                .description("Existence checks answered by the filter without querying the database")
+                .register(registry);
+        this.databaseChecks = Counter.builder("patient.dni_filter.checks").tag("result", "maybe")
+                .description("Existence checks that went to the database")
+                .register(registry);
+        this.falsePositives = Counter.builder("patient.dni_filter.false_positives")
+                .description("Filter said 'maybe' and the database said the DNI does not exist")
+                .register(registry);
+        if (filter != null) {
+            Gauge.builder("patient.dni_filter.expected_fpp", filter, DniBloomFilter::expectedFalsePositiveRate)
+                    .description("Theoretical false-positive rate for the current fill")
+                    .register(registry);
+            Gauge.builder("patient.dni_filter.observed_fpp", this, PatientR2dbcAdapter::observedFalsePositiveRate)
+                    .description("False positives over all DNIs that did not exist")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public Mono<Boolean> existsByDni(String dni) {
+        boolean filtered = filterReady;
+        if (filtered && !filter.mightContain(dni)) {
+            skippedQueries.increment();
+            return Mono.just(false);
+        }
+        databaseChecks.increment();
+        return client.sql(EXISTS)
+                .bind(0, dni)
+                .map(row -> Boolean.TRUE.equals(row.get(0, Boolean.class)))
+                .one()
+                .doOnNext(exists -> {
+                    if (filtered && !exists) falsePositives.increment();
+                })
+                .onErrorMap(R2dbcErrors::toDomain);
+    }
+
+    @Override
+    public Mono<Patient> findByDni(String dni) {
+        if (loader != null) return loader.load(dni).onErrorMap(R2dbcErrors::toDomain);
+        return client.sql(BY_DNI)
+                .bind(0, dni)
+                .map(PatientR2dbcAdapter::toPatient)
+                .one()
+                .switchIfEmpty(Mono.error(CustomBusinessException.shared(PATIENT_NOT_FOUND)))
+                .onErrorMap(R2dbcErrors::toDomain);
+    }
+
+    @Override
+    public Mono<Patient> save(Patient patient) {
+        var spec = client.sql(INSERT)
+                .bind(0, patient.id())
+                .bind(1, patient.dni())
+                .bind(2, patient.fullName())
+                .bind(3, patient.birthDate());
+        spec = patient.insurerId() == null ? spec.bindNull(4, String.class) : spec.bind(4, patient.insurerId());
+        return spec.fetch().rowsUpdated()
+                .doOnSuccess(rows -> addToFilter(patient.dni()))
+                .thenReturn(patient)
+                .onErrorMap(DuplicateKeyException.class, e -> {
+                    addToFilter(patient.dni());
+                    return CustomBusinessException.shared(DUPLICATE_PATIENT);
+                })
+                .onErrorMap(R2dbcErrors::toDomain);
+    }
+
+    @Override
+    public Flux<Patient> streamAll() {
+        return streams.limit(client.sql(ALL)
+                        .filter(statement -> statement.fetchSize(streamFetchSize))
+                        .map(PatientR2dbcAdapter::toPatient)
+                        .all())
+                .onErrorMap(R2dbcErrors::toDomain);
+    }
+
+    /** Carga inicial en streaming; las altas que ocurran mientras tanto también se agregan. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFilter() {
+        if (filter == null) return;
+        client.sql(ALL_DNIS)
+                .filter(statement -> statement.fetchSize(props.loadFetchSize()))
+                .map(row -> row.get(0, String.class))
+                .all()
+                .doOnNext(filter::put)
+                .count()
+                .subscribe(
+                        count -> {
+                            filterReady = true;
+                            log.info("Patient DNI filter loaded. dnis={}, bits={}, hashes={}, expectedFpp={}",
+                                    count, filter.bitCount(), filter.hashes(), filter.expectedFalsePositiveRate());
+                        },
+                        e -> log.warn("Patient DNI filter load failed; existence checks keep going to the database", e));
+    }
+
+    static Patient toPatient(Readable row) {
+        return new Patient(
+                row.get(0, UUID.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                row.get(3, LocalDate.class),
+                row.get(4, String.class));
+    }
+
+    private void addToFilter(String dni) {
+        if (filter != null) filter.put(dni);
+    }
+
+    private double observedFalsePositiveRate() {
+        double fp = falsePositives.count();
+        double negatives = fp + skippedQueries.count();
+        return negatives == 0 ? 0 : fp / negatives;
+    }
+
+    @Override
+    public void destroy() {
+        if (loader != null) loader.dispose();
+    }
+}
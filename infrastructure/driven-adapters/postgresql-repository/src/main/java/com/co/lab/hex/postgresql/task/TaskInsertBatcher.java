@@ -0,0 +1,87 @@
+package com.co.lab.hex.postgresql.task;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.postgresql.config.R2dbcErrors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+
+/**
+ * Une los inserts concurrentes en sentencias multi-fila.
+ *
+ * <p>Cada {@link #submit(Task)} encola la tarea y espera su lote; el lote se cierra al
+ * llenarse o al vencer la ventana, y hasta {@code concurrency} lotes viajan en paralelo
+ * (uno por conexión del pool).
+ */
+@Slf4j
+final class TaskInsertBatcher implements Disposable {
+
+    private record Pending(Task task, Sinks.One<Task> result) {}
+
+    private final DatabaseClient client;
+    private final Sinks.Many<Pending> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final Disposable pipeline;
+
+    TaskInsertBatcher(DatabaseClient client, TaskInsertProperties props) {
+        this.client = client;
+        this.pipeline = queue.asFlux()
+                .bufferTimeout(props.maxBatchSize(), props.window(), true)
+                .flatMap(this::flush, props.concurrency())
+                .subscribe(null, e -> log.error("Task insert batcher stopped; new inserts will not complete", e));
+    }
+
+    Mono<Task> submit(Task task) {
+        return Mono.defer(() -> {
+            Sinks.One<Task> result = Sinks.one();
+            Sinks.EmitResult emitted;
+            // Productores concurrentes: el sink rechaza la emisión simultánea, se reintenta sin bloquear.
+            while ((emitted = queue.tryEmitNext(new Pending(task, result))) == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                Thread.onSpinWait();
+            }
+            if (emitted.isFailure()) {
+                return Mono.error(new IllegalStateException("Task insert batcher is not accepting writes: " + emitted));
+            }
+            return result.asMono();
+        });
+    }
+
+    /**
+     * Armar la sentencia va dentro de {@code defer}: si lanza, la falla llega a los llamadores del
+     * lote como error en lugar de salir del {@code flatMap} y cortar el pipeline para todos.
+     *
+     * <p>El INSERT multi-fila es atómico, así que una fila que la base rechaza tumbaría a todo el
+     * lote. Ante una falla permanente ({@link R2dbcErrors#isPermanent}) el lote se parte en mitades
+     * hasta aislarla: solo su llamador recibe el error y los demás quedan insertados. Una falla
+     * transitoria (conexión, timeout) sí es de todos.
+     */
+    private Mono<Void> flush(List<Pending> batch) {
+        List<Task> tasks = batch.stream().map(Pending::task).toList();
+        return Mono.defer(() -> TaskSql.bindAll(client.sql(TaskSql.insert(tasks.size())), tasks)
+                        .fetch().rowsUpdated())
+                .doOnNext(rows -> batch.forEach(p -> p.result().tryEmitValue(p.task())))
+                .then()
+                .onErrorResume(e -> {
+                    if (batch.size() > 1 && R2dbcErrors.isPermanent(e)) {
+                        int half = batch.size() / 2;
+                        return flush(batch.subList(0, half)).then(flush(batch.subList(half, batch.size())));
+                    }
+                    batch.forEach(p -> p.result().tryEmitError(e));
+                    return Mono.empty();
+                });
+    }
+
+    /** Cierra la cola: los lotes ya encolados se terminan de escribir antes de completar. */
+    @Override
+    public void dispose() {
+        queue.tryEmitComplete();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return pipeline.isDisposed();
+    }
+}
@@ -0,0 +1,20 @@
+package com.co.lab.hex.postgresql.task;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Agrupación de inserts concurrentes ({@code adapters.r2dbc.task-insert.*}).
+ *
+ * <p>Con {@code batch-enabled} los inserts que llegan dentro de {@code window}
+ * (o hasta {@code max-batch-size}) se envían en un único {@code INSERT ... VALUES (..),(..)}.
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.task-insert")
+public record TaskInsertProperties(
+        @DefaultValue("true") boolean batchEnabled,
+        @DefaultValue("64") int maxBatchSize,
+        @DefaultValue("2ms") Duration window,
+        @DefaultValue("4") int concurrency
+) {}
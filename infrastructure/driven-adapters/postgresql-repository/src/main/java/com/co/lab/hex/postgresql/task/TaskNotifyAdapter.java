@@ -0,0 +1,100 @@
+package com.co.lab.hex.postgresql.task;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.gateways.TaskEventGateway;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.Connection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link TaskEventGateway} sobre LISTEN/NOTIFY: cada nodo publica sus altas y recibe las de todos.
+ *
+ * <p>Un lote entero sale en una sola sentencia ({@code pg_notify} sobre {@code unnest}), sin esperar
+ * respuesta. La escucha usa una conexión propia fuera del pool (una notificación solo llega a la
+ * sesión que hizo {@code LISTEN}) y se reabre con backoff si se corta; lo notificado mientras
+ * tanto se pierde, como en cualquier NOTIFY.
+ *
+ * <p>El payload es {@code id|createdAt|description}: con descripciones acotadas queda lejos del
+ * límite de 8000 bytes de NOTIFY.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "adapters.r2dbc.task-notify", name = "enabled", havingValue = "true")
+public class TaskNotifyAdapter implements TaskEventGateway {
+
+    private static final String NOTIFY = "SELECT pg_notify($1, p) FROM unnest($2::text[]) AS p";
+
+    private final DatabaseClient client;
+    private final String channel;
+    private final Flux<Task> events;
+
+    public TaskNotifyAdapter(DatabaseClient client, ConnectionPool pool, TaskNotifyProperties props) {
+        this.client = client;
+        this.channel = props.channel();
+        this.events = Flux.usingWhen(pool.unwrap().create(), this::listen, Connection::close)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, props.reconnectBackoff())
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(s -> log.warn("LISTEN {} lost, reconnecting (attempt {})",
+                                channel, s.totalRetries() + 1, s.failure())))
+                .share();
+    }
+
+    @Override
+    public void publish(List<Task> created) {
+        if (created.isEmpty()) return;
+        String[] payloads = created.stream().map(TaskNotifyAdapter::payload).toArray(String[]::new);
+        client.sql(NOTIFY)
+                .bind(0, channel)
+                .bind(1, payloads)
+                .then()
+                .subscribe(null, e -> log.warn("NOTIFY {} failed for {} tasks", channel, created.size(), e));
+    }
+
+    @Override
+    public Flux<Task> events() {
+        return events;
+    }
+
+    /** Si la conexión se cierra sin error también se reabre. */
+    private Flux<Task> listen(Connection connection) {
+        PostgresqlConnection pg = (PostgresqlConnection) connection;
+        return pg.createStatement("LISTEN " + channel).execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .thenMany(pg.getNotifications())
+                .doOnSubscribe(s -> log.info("Listening for task events on {}", channel))
+                .mapNotNull(n -> parse(n.getParameter()))
+                .concatWith(Mono.error(() -> new IllegalStateException("LISTEN connection closed")));
+    }
+
+    static String payload(Task task) {
+        return task.id() + "|" + task.createdAt() + "|" + task.description();
+    }
+
+    private static Task parse(String payload) {
+        if (payload == null) return null;
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed task event payload");
+            return null;
+        }
+        try {
+            return new Task(UUID.fromString(parts[0]), parts[2], Instant.parse(parts[1]));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed task event payload", e);
+            return null;
+        }
+    }
+}
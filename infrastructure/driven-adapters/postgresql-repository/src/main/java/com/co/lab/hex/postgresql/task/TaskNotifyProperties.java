@@ -0,0 +1,27 @@
+package com.co.lab.hex.postgresql.task;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Altas de tareas por LISTEN/NOTIFY de Postgres ({@code adapters.r2dbc.task-notify.*}).
+ *
+ * <p>Apagado por defecto (el feed ve solo las altas del nodo). {@code channel} va tal cual en
+ * {@code LISTEN}, así que debe ser un identificador simple.
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.task-notify")
+public record TaskNotifyProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("task_events") String channel,
+        @DefaultValue("1s") Duration reconnectBackoff
+) {
+
+    public TaskNotifyProperties {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException(
+                    "adapters.r2dbc.task-notify.channel must be a simple identifier: " + channel);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.co.lab.hex.postgresql.task;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Lecturas de tareas ({@code adapters.r2dbc.task-query.*}).
+ * {@code stream-fetch-size} es cuántas filas trae el driver por ida a la base en los listados en streaming.
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.task-query")
+public record TaskQueryProperties(
+        @DefaultValue("500") int streamFetchSize
+) {}
@@ -0,0 +1,94 @@
+package com.co.lab.hex.postgresql.task;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.TaskCursor;
+import com.co.lab.hex.model.task.gateways.TaskGateway;
+import com.co.lab.hex.postgresql.config.R2dbcErrors;
+import com.co.lab.hex.postgresql.config.StreamingReadLimiter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class TaskR2dbcAdapter implements TaskGateway, DisposableBean {
+
+    private final DatabaseClient client;
+    private final TaskInsertBatcher batcher;
+    private final int streamFetchSize;
+    private final StreamingReadLimiter streams;
+
+    public TaskR2dbcAdapter(DatabaseClient client, TaskInsertProperties props, TaskQueryProperties queryProps,
+                            StreamingReadLimiter streams) {
+        this.client = client;
+        this.batcher = props.batchEnabled() ? new TaskInsertBatcher(client, props) : null;
+        this.streamFetchSize = queryProps.streamFetchSize();
+        this.streams = streams;
+    }
+
+    @Override
+    public Mono<Task> save(Task task) {
+        Mono<Task> insert = batcher != null ? batcher.submit(task) : insertOne(task);
+        return insert.onErrorMap(R2dbcErrors::toDomain);
+    }
+
+    /** El lote ya viene acotado por el llamador: un solo INSERT multi-fila, sin pasar por el batcher. */
+    @Override
+    public Flux<Task> saveAll(List<Task> tasks) {
+        if (tasks.isEmpty()) return Flux.empty();
+        return TaskSql.bindAll(client.sql(TaskSql.insert(tasks.size())), tasks)
+                .fetch().rowsUpdated()
+                .thenMany(Flux.fromIterable(tasks))
+                .onErrorMap(R2dbcErrors::toDomain);
+    }
+
+    @Override
+    public Mono<Task> findById(UUID id) {
+        return client.sql(TaskSql.BY_ID)
+                .bind(0, id)
+                .map(TaskSql::toTask)
+                .one()
+                .onErrorMap(R2dbcErrors::toDomain);
+    }
+
+    @Override
+    public Flux<Task> findAfter(TaskCursor after, int limit) {
+        var spec = after == null
+                ? client.sql(TaskSql.FIRST_PAGE).bind(0, limit)
+                : client.sql(TaskSql.PAGE_AFTER).bind(0, after.createdAt()).bind(1, after.id()).bind(2, limit);
+        return spec.map(TaskSql::toTask)
+                .all()
+                .onErrorMap(R2dbcErrors::toDomain);
+    }
+
+    /**
+     * Con {@code fetchSize} el driver lee el portal de a {@code stream-fetch-size} filas y pide
+     * el siguiente tramo solo cuando el suscriptor ya consumió el anterior. La conexión queda
+     * tomada toda la descarga, así que cuenta contra {@link StreamingReadLimiter}.
+     */
+    @Override
+    public Flux<Task> streamAfter(TaskCursor after) {
+        var spec = after == null
+                ? client.sql(TaskSql.FIRST)
+                : client.sql(TaskSql.AFTER).bind(0, after.createdAt()).bind(1, after.id());
+        return streams.limit(spec.filter(statement -> statement.fetchSize(streamFetchSize))
+                        .map(TaskSql::toTask)
+                        .all())
+                .onErrorMap(R2dbcErrors::toDomain);
+    }
+
+    private Mono<Task> insertOne(Task task) {
+        return TaskSql.bindAll(client.sql(TaskSql.insert(1)), List.of(task))
+                .fetch().rowsUpdated()
+                .thenReturn(task);
+    }
+
+    @Override
+    public void destroy() {
+        if (batcher != null) batcher.dispose();
+    }
+}
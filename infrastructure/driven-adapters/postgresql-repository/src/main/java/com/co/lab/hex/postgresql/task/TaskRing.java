@@ -0,0 +1,69 @@
+package com.co.lab.hex.postgresql.task;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cola acotada de varios productores y un consumidor, sin locks.
+ *
+ * <p>Cada productor reserva una posición con un CAS sobre {@code tail} y publica el elemento en
+ * su celda; el consumidor lee en orden mientras encuentre celdas publicadas, las limpia y recién
+ * entonces avanza {@code head}. Un elemento reservado pero aún no publicado frena el drenado hasta
+ * la próxima pasada; nunca se saltea.
+ */
+final class TaskRing<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final int capacity;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    TaskRing(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /** {@code false} si está lleno. */
+    boolean offer(E element) {
+        long t;
+        do {
+            t = tail.get();
+            if (t - head.get() >= capacity) return false;
+        } while (!tail.compareAndSet(t, t + 1));
+        slots.setRelease((int) (t & mask), element);
+        return true;
+    }
+
+    /** Solo el consumidor. Mueve hasta {@code max} elementos a {@code out}; devuelve cuántos. */
+    int drainTo(List<E> out, int max) {
+        long h = head.get();
+        int n = 0;
+        while (n < max) {
+            int i = (int) (h & mask);
+            E element = slots.getAcquire(i);
+            if (element == null) break;
+            slots.setRelease(i, null);
+            out.add(element);
+            h++;
+            n++;
+        }
+        if (n > 0) head.setRelease(h);
+        return n;
+    }
+
+    /** Reservados y no drenados; incluye los que se están publicando. */
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
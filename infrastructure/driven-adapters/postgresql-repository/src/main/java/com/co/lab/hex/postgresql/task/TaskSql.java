@@ -0,0 +1,87 @@
+package com.co.lab.hex.postgresql.task;
+
+import com.co.lab.hex.model.task.Task;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/** SQL de la tabla {@code tasks}; los inserts multi-fila se generan una sola vez por tamaño de lote. */
+final class TaskSql {
+    private TaskSql() {}
+
+    private static final String INSERT_PREFIX = "INSERT INTO tasks (id, description, created_at) VALUES ";
+    private static final int COLUMNS = 3;
+    private static final int MAX_CACHED_ROWS = 1024;
+    private static final String[] INSERTS = new String[MAX_CACHED_ROWS + 1];
+
+    // Keyset sobre (created_at, id): la comparación de filas usa ix_tasks_created_at_id sin OFFSET.
+    private static final String SELECT = "SELECT id, description, created_at FROM tasks ";
+    private static final String ORDER = " ORDER BY created_at, id";
+    static final String FIRST = SELECT + ORDER;
+    static final String AFTER = SELECT + "WHERE (created_at, id) > ($1, $2)" + ORDER;
+    static final String FIRST_PAGE = FIRST + " LIMIT $1";
+    static final String PAGE_AFTER = AFTER + " LIMIT $3";
+    static final String BY_ID = SELECT + "WHERE id = $1";
+
+    /** Reintento seguro: si un intento anterior sí llegó a confirmar, sus filas se saltan. */
+    private static final String SKIP_EXISTING = " ON CONFLICT (id) DO NOTHING";
+
+    static Task toTask(Readable row) {
+        return new Task(
+                row.get(0, UUID.class),
+                row.get(1, String.class),
+                row.get(2, Instant.class));
+    }
+
+    static String insert(int rows) {
+        if (rows > MAX_CACHED_ROWS) return buildInsert(rows);
+        String sql = INSERTS[rows];
+        if (sql == null) {
+            sql = buildInsert(rows);
+            INSERTS[rows] = sql; // carrera benigna: el valor es idéntico
+        }
+        return sql;
+    }
+
+    static String insertSkippingExisting(int rows) {
+        return insert(rows) + SKIP_EXISTING;
+    }
+
+    /**
+     * Enlaza las tareas en el orden de columnas de {@link #insert(int)}. Un valor nulo va con
+     * {@code bindNull}: {@code bind} lanzaría al armar la sentencia y la falla no llegaría como
+     * señal de error; así la rechaza la base ({@code NOT NULL}) y se traduce como cualquier otra.
+     */
+    static DatabaseClient.GenericExecuteSpec bindAll(DatabaseClient.GenericExecuteSpec spec, List<Task> tasks) {
+        int i = 0;
+        for (Task task : tasks) {
+            spec = bind(spec, i++, task.id(), UUID.class);
+            spec = bind(spec, i++, task.description(), String.class);
+            spec = bind(spec, i++, task.createdAt(), Instant.class);
+        }
+        return spec;
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, int index,
+                                                          Object value, Class<?> type) {
+        return value == null ? spec.bindNull(index, type) : spec.bind(index, value);
+    }
+
+    private static String buildInsert(int rows) {
+        StringBuilder sb = new StringBuilder(INSERT_PREFIX.length() + rows * 16).append(INSERT_PREFIX);
+        int param = 1;
+        for (int r = 0; r < rows; r++) {
+            if (r > 0) sb.append(',');
+            sb.append('(');
+            for (int c = 0; c < COLUMNS; c++) {
+                if (c > 0) sb.append(',');
+                sb.append('$').append(param++);
+            }
+            sb.append(')');
+        }
+        return sb.toString();
+    }
+}
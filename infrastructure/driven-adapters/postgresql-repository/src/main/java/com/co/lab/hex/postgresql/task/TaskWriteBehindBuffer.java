@@ -0,0 +1,273 @@
+package com.co.lab.hex.postgresql.task;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.TaskWriteStatus;
+import com.co.lab.hex.model.task.gateways.TaskEventGateway;
+import com.co.lab.hex.model.task.gateways.TaskWriteBehindGateway;
+import com.co.lab.hex.postgresql.config.R2dbcErrors;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link TaskWriteBehindGateway} sobre un {@link TaskRing} y un hilo que escribe en lotes
+ * (group commit).
+ *
+ * <p>El hilo toma una de {@code concurrency} conexiones y drena hasta {@code max-batch-size}
+ * tareas en un único {@code INSERT} multi-fila. Mientras las conexiones están ocupadas las tareas
+ * se acumulan, así que el tamaño del lote sigue a la latencia de la base y a la profundidad de la
+ * cola; con la base holgada un lote chico espera hasta {@code linger} a juntar más.
+ *
+ * <p>Un lote que falla se reintenta con backoff; el {@code INSERT} salta los ids ya guardados, así
+ * que repetir un intento que sí confirmó no duplica ni falla. Agotados los reintentos, las tareas
+ * quedan {@code FAILED}. Si la base rechaza una fila (dato inválido) no se reintenta: el lote se
+ * parte hasta aislarla y solo esa tarea queda {@code FAILED}. Al apagar, este bean se detiene después del servidor web (ya sin altas
+ * nuevas) y espera hasta {@code drain-timeout} a que el buffer se vacíe.
+ */
+@Slf4j
+@Repository
+public class TaskWriteBehindBuffer implements TaskWriteBehindGateway, SmartLifecycle {
+
+    /** Después del servidor web ({@code DEFAULT_PHASE - 2048}): al detenerse ya no entran altas. */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long IDLE_PARK = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long LINGER_STEP = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final DatabaseClient client;
+    private final TaskEventGateway taskEvents;
+    private final TaskWriteBehindProperties props;
+    private final TaskRing<Task> ring;
+    private final Semaphore connections;
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Boolean> failed;
+
+    private Counter rejected;
+    private Counter failures;
+    private DistributionSummary batchSize;
+
+    private volatile Thread flusher;
+    private volatile boolean closing;
+    private volatile boolean idle;
+
+    public TaskWriteBehindBuffer(DatabaseClient client, TaskEventGateway taskEvents, TaskWriteBehindProperties props,
+                                 MeterRegistry registry) {
+        this.client = client;
+        this.taskEvents = taskEvents;
+        this.props = props;
+        this.ring = props.enabled() ? new TaskRing<>(props.capacity()) : null;
+        this.connections = new Semaphore(props.concurrency());
+        int retention = props.failedRetention();
+        this.failed = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                return size() > retention;
+            }
+        });
+        if (ring != null) registerMetrics(registry);
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("tasks.write_behind.depth", ring, TaskRing::size)
+                .description("Tasks accepted and not yet taken by a batch")
+                .register(registry);
+        Gauge.builder("tasks.write_behind.pending", pending, Set::size)
+                .description("Tasks accepted and not yet confirmed by the database")
+                .register(registry);
+        rejected = Counter.builder("tasks.write_behind.rejected")
+                .description("Tasks refused because the buffer was full or shutting down")
+                .register(registry);
+        failures = Counter.builder("tasks.write_behind.failed")
+                .description("Accepted tasks lost: retries exhausted or row rejected by the database")
+                .register(registry);
+        batchSize = DistributionSummary.builder("tasks.write_behind.batch_size")
+                .description("Rows per group-commit INSERT")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public boolean enabled() {
+        return ring != null;
+    }
+
+    @Override
+    public boolean offer(Task task) {
+        if (ring == null || closing) {
+            if (rejected != null) rejected.increment();
+            return false;
+        }
+        // Primero pending: una consulta de estado no debe ver la tarea "en ningún lado".
+        pending.add(task.id());
+        if (!ring.offer(task)) {
+            pending.remove(task.id());
+            rejected.increment();
+            return false;
+        }
+        if (idle) LockSupport.unpark(flusher);
+        return true;
+    }
+
+    @Override
+    public TaskWriteStatus status(UUID id) {
+        if (pending.contains(id)) return TaskWriteStatus.PENDING;
+        if (failed.containsKey(id)) return TaskWriteStatus.FAILED;
+        return null;
+    }
+
+    // --- hilo de escritura ---
+
+    private void flushLoop() {
+        int maxBatch = props.maxBatchSize();
+        List<Task> batch = new ArrayList<>(maxBatch);
+        while (true) {
+            connections.acquireUninterruptibly();
+            if (!awaitWork()) {
+                connections.release();
+                break;
+            }
+            linger(maxBatch);
+            if (ring.drainTo(batch, maxBatch) == 0) {
+                connections.release();   // reservado pero aún no publicado: otra pasada
+                Thread.onSpinWait();
+                continue;
+            }
+            write(List.copyOf(batch));
+            batch.clear();
+        }
+        // Los lotes en vuelo terminan antes de dar el buffer por drenado.
+        try {
+            connections.tryAcquire(props.concurrency(), props.drainTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** {@code false} solo cuando se está cerrando y ya no queda nada. */
+    private boolean awaitWork() {
+        while (ring.isEmpty()) {
+            if (closing) return false;
+            idle = true;
+            if (ring.isEmpty() && !closing) LockSupport.parkNanos(this, IDLE_PARK);
+            idle = false;
+        }
+        return true;
+    }
+
+    private void linger(int maxBatch) {
+        long linger = props.linger().toNanos();
+        if (linger <= 0) return;
+        long until = System.nanoTime() + linger;
+        while (!closing && ring.size() < maxBatch) {
+            long left = until - System.nanoTime();
+            if (left <= 0) return;
+            LockSupport.parkNanos(this, Math.min(left, LINGER_STEP));
+        }
+    }
+
+    private void write(List<Task> tasks) {
+        batchSize.record(tasks.size());
+        insert(tasks)
+                .doFinally(signal -> connections.release())
+                .subscribe();
+    }
+
+    /**
+     * Las fallas transitorias se reintentan con backoff. Una fila que la base rechaza
+     * ({@link R2dbcErrors#isPermanent}) no se reintenta: el lote se parte en mitades hasta aislarla,
+     * así solo esa tarea queda {@code FAILED} y no las de los demás clientes que ya recibieron 202.
+     */
+    private Mono<Void> insert(List<Task> tasks) {
+        return Mono.defer(() -> TaskSql.bindAll(client.sql(TaskSql.insertSkippingExisting(tasks.size())), tasks)
+                        .fetch().rowsUpdated())
+                .retryWhen(Retry.backoff(props.maxRetries(), props.retryBackoff())
+                        .filter(e -> !R2dbcErrors.isPermanent(e)))
+                .doOnNext(rows -> {
+                    tasks.forEach(t -> pending.remove(t.id()));
+                    taskEvents.publish(tasks);
+                })
+                .then()
+                .onErrorResume(e -> {
+                    if (tasks.size() > 1 && R2dbcErrors.isPermanent(e)) {
+                        int half = tasks.size() / 2;
+                        return insert(tasks.subList(0, half)).then(insert(tasks.subList(half, tasks.size())));
+                    }
+                    onFailed(tasks, e);
+                    return Mono.empty();
+                });
+    }
+
+    private void onFailed(List<Task> tasks, Throwable error) {
+        for (Task t : tasks) {
+            failed.put(t.id(), Boolean.TRUE);
+            pending.remove(t.id());
+        }
+        failures.increment(tasks.size());
+        if (R2dbcErrors.isPermanent(error)) {
+            log.warn("Write-behind task {} rejected by the database; marked FAILED: {}",
+                    tasks.get(0).id(), error.toString());
+        } else {
+            log.error("Write-behind batch of {} tasks failed after {} retries; tasks marked FAILED",
+                    tasks.size(), props.maxRetries(), error);
+        }
+    }
+
+    // --- ciclo de vida ---
+
+    @Override
+    public void start() {
+        if (ring == null || flusher != null) return;
+        Thread t = new Thread(this::flushLoop, "task-write-behind");
+        t.setDaemon(true);
+        flusher = t;
+        t.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread t = flusher;
+        if (t == null) return;
+        closing = true;
+        LockSupport.unpark(t);
+        try {
+            t.join(props.drainTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (t.isAlive() || !pending.isEmpty()) {
+            log.warn("Write-behind not drained within {}: {} tasks still unconfirmed",
+                    props.drainTimeout(), pending.size());
+        } else {
+            log.info("Write-behind drained");
+        }
+        flusher = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
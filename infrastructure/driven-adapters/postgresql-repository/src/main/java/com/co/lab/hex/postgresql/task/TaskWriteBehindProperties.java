@@ -0,0 +1,27 @@
+package com.co.lab.hex.postgresql.task;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Escritura diferida de tareas ({@code adapters.r2dbc.task-write-behind.*}).
+ *
+ * <p>{@code capacity} se redondea a potencia de 2. Con el buffer lleno el alta responde 503.
+ * {@code linger} es cuánto espera un lote chico a juntar más tareas cuando hay una conexión libre;
+ * con la base ocupada los lotes crecen solos hasta {@code max-batch-size}. Al apagar se espera
+ * hasta {@code drain-timeout} a que el buffer se vacíe.
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.task-write-behind")
+public record TaskWriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("65536") int capacity,
+        @DefaultValue("512") int maxBatchSize,
+        @DefaultValue("2ms") Duration linger,
+        @DefaultValue("4") int concurrency,
+        @DefaultValue("3") int maxRetries,
+        @DefaultValue("100ms") Duration retryBackoff,
+        @DefaultValue("15s") Duration drainTimeout,
+        @DefaultValue("10000") int failedRetention
+) {}
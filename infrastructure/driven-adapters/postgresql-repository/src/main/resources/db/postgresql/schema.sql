@@ -0,0 +1,31 @@
+CREATE TABLE IF NOT EXISTS tasks (
+    id          UUID         PRIMARY KEY,
+    description VARCHAR(120) NOT NULL,
+    created_at  TIMESTAMPTZ  NOT NULL
+);
+
+-- Listado por keyset (created_at, id); INCLUDE permite index-only scans sin tocar la tabla.
+CREATE INDEX IF NOT EXISTS ix_tasks_created_at_id ON tasks (created_at, id) INCLUDE (description);
+
+CREATE TABLE IF NOT EXISTS patients (
+    id          UUID         PRIMARY KEY,
+    dni         VARCHAR(20)  NOT NULL,
+    full_name   VARCHAR(200) NOT NULL,
+    birth_date  DATE         NOT NULL,
+    insurer_id  VARCHAR(40)
+);
+
+-- Garantía final contra duplicados: el filtro de DNIs es local a cada nodo.
+CREATE UNIQUE INDEX IF NOT EXISTS ux_patients_dni ON patients (dni);
+
+-- Respuestas repetibles por Idempotency-Key; las vencidas se purgan periódicamente.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idem_key    VARCHAR(255) PRIMARY KEY,
+    fingerprint CHAR(64)     NOT NULL,
+    status      INTEGER      NOT NULL,
+    location    VARCHAR(255),
+    body        TEXT         NOT NULL,
+    expires_at  TIMESTAMPTZ  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,56 @@
+package com.co.lab.hex.postgresql.config;
+
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.exceptions.technical.CustomTechnicalException;
+import io.r2dbc.spi.R2dbcBadGrammarException;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.R2dbcTransientResourceException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.DATA_REJECTED;
+import static com.co.lab.hex.exceptions.technical.TechnicalErrorMessages.DATABASE_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class R2dbcErrorsTest {
+
+    @Test
+    void invalidValueIsRejectedDataEvenWhenSpringWrapsIt() {
+        var nul = new R2dbcNonTransientResourceException("invalid byte sequence for encoding \"UTF8\": 0x00", "22021");
+        var wrapped = new DataIntegrityViolationException("INSERT failed", nul);
+
+        assertThat(R2dbcErrors.isRejectedData(wrapped)).isTrue();
+        assertThat(R2dbcErrors.isPermanent(wrapped)).isTrue();
+        assertThat(R2dbcErrors.toDomain(wrapped))
+                .isInstanceOf(CustomBusinessException.class)
+                .extracting(e -> ((CustomBusinessException) e).getCode())
+                .isEqualTo(DATA_REJECTED.getCode());
+    }
+
+    @Test
+    void constraintViolationIsRejectedData() {
+        assertThat(R2dbcErrors.isRejectedData(new R2dbcDataIntegrityViolationException("not null", "23502"))).isTrue();
+    }
+
+    @Test
+    void badGrammarIsPermanentButStaysDatabaseUnavailable() {
+        var missingTable = new R2dbcBadGrammarException("relation \"patients\" does not exist", "42P01");
+
+        assertThat(R2dbcErrors.isPermanent(missingTable)).isTrue();
+        assertThat(R2dbcErrors.isRejectedData(missingTable)).isFalse();
+        assertThat(R2dbcErrors.toDomain(missingTable))
+                .isInstanceOf(CustomTechnicalException.class)
+                .extracting(e -> ((CustomTechnicalException) e).getCode())
+                .isEqualTo(DATABASE_UNAVAILABLE.getCode());
+    }
+
+    @Test
+    void connectionLossIsTransient() {
+        var lost = new R2dbcTransientResourceException("connection reset", "08006");
+
+        assertThat(R2dbcErrors.isPermanent(lost)).isFalse();
+        assertThat(R2dbcErrors.isPermanent(new IllegalStateException("pool closed"))).isFalse();
+        assertThat(R2dbcErrors.toDomain(lost)).isInstanceOf(CustomTechnicalException.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.co.lab.hex.postgresql.config;
+
+import com.co.lab.hex.exceptions.technical.CustomTechnicalException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static com.co.lab.hex.exceptions.technical.TechnicalErrorMessages.SERVICE_OVERLOADED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingReadLimiterTest {
+
+    private final StreamingReadLimiter limiter = new StreamingReadLimiter(2, new SimpleMeterRegistry());
+
+    @Test
+    void rejectsStreamsAboveTheLimitUntilOneEnds() {
+        Sinks.Many<Integer> first = Sinks.many().unicast().onBackpressureBuffer();
+        Sinks.Many<Integer> second = Sinks.many().unicast().onBackpressureBuffer();
+        var a = limiter.limit(first.asFlux()).subscribe();
+        var b = limiter.limit(second.asFlux()).subscribe();
+        assertThat(limiter.active()).isEqualTo(2);
+
+        StepVerifier.create(limiter.limit(Flux.just(1)))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(CustomTechnicalException.class)
+                        .extracting(ex -> ((CustomTechnicalException) ex).getCode())
+                        .isEqualTo(SERVICE_OVERLOADED.getCode()))
+                .verify();
+
+        first.tryEmitComplete();
+        assertThat(limiter.active()).isEqualTo(1);
+        StepVerifier.create(limiter.limit(Flux.just(1))).expectNext(1).verifyComplete();
+
+        b.dispose();
+        a.dispose();
+        assertThat(limiter.active()).isZero();
+    }
+
+    @Test
+    void releasesOnErrorAndCancel() {
+        StepVerifier.create(limiter.limit(Flux.error(new IllegalStateException("boom"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(limiter.limit(Flux.never()))
+                .thenCancel()
+                .verify();
+        assertThat(limiter.active()).isZero();
+    }
+
+    @Test
+    void takesThePermitOnSubscribeNotOnAssembly() {
+        Flux<Integer> notYetSubscribed = limiter.limit(Flux.just(1));
+        assertThat(limiter.active()).isZero();
+        StepVerifier.create(notYetSubscribed).expectNext(1).verifyComplete();
+    }
+}
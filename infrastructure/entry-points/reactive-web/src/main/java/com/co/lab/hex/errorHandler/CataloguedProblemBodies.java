@@ -0,0 +1,44 @@
+package com.co.lab.hex.errorHandler;
+
+import com.co.lab.hex.exceptions.DomainException;
+import com.co.lab.hex.exceptions.WithErrors;
+import com.co.lab.hex.exceptions.business.BusinessErrorMessages;
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.exceptions.technical.CustomTechnicalException;
+import com.co.lab.hex.exceptions.technical.TechnicalErrorMessages;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Plantillas pre-serializadas para cada constante de {@link BusinessErrorMessages} y
+ * {@link TechnicalErrorMessages}, construidas al arrancar con el propio {@link ProblemDetailsMapper}
+ * para que status, title y detail coincidan con la ruta genérica.
+ */
+@Component
+public class CataloguedProblemBodies {
+
+    private final Map<Enum<?>, ProblemTemplate> templates;
+
+    public CataloguedProblemBodies(ProblemDetailsMapper mapper) {
+        Map<Enum<?>, ProblemTemplate> map = new HashMap<>();
+        for (BusinessErrorMessages em : BusinessErrorMessages.values()) {
+            map.put(em, ProblemTemplate.of(mapper.toProblemBody(new CustomBusinessException(em), null, null)));
+        }
+        for (TechnicalErrorMessages em : TechnicalErrorMessages.values()) {
+            map.put(em, ProblemTemplate.of(mapper.toProblemBody(new CustomTechnicalException(em), null, null)));
+        }
+        this.templates = Map.copyOf(map);
+    }
+
+    /**
+     * Plantilla del error, o {@code null} si no es catalogado o trae {@code errors}
+     * (en ese caso el cuerpo varía por petición y va por la ruta genérica).
+     */
+    public ProblemTemplate templateFor(Throwable ex) {
+        if (!(ex instanceof DomainException de) || de.getCatalogEntry() == null) return null;
+        if (ex instanceof WithErrors we && we.getErrors() != null && !we.getErrors().isEmpty()) return null;
+        return templates.get(de.getCatalogEntry());
+    }
+}
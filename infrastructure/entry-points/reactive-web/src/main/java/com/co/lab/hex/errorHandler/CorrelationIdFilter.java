@@ -1,5 +1,7 @@
 package com.co.lab.hex.errorHandler;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.lang.NonNull;
@@ -8,27 +10,50 @@ import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
-import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Asigna el {@code X-Correlation-Id} (el entrante o uno nuevo de {@link CorrelationIds}) y lo
+ * publica en un único lugar: el atributo {@link #CID_KEY} del exchange, que es también la clave
+ * del {@code Context} de Reactor. La request no se copia; el id viaja de vuelta en el response.
+ *
+ * <p>El trabajo propio del filtro se mide en {@code http.server.correlation_filter} con un timer
+ * creado al arrancar: no se asigna nada por petición para medirlo.
+ */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class CorrelationIdFilter implements WebFilter {
     public static final String HDR = "X-Correlation-Id";
+    public static final String CID_KEY = CorrelationIdFilter.class.getName() + ".cid";
+
+    private final Timer overhead;
+
+    public CorrelationIdFilter(MeterRegistry registry) {
+        this.overhead = Timer.builder("http.server.correlation_filter")
+                .description("Time spent in CorrelationIdFilter itself, excluding the rest of the chain")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
 
     @Override
     public @NonNull Mono<Void> filter(@NonNull ServerWebExchange exchange,
                                       @NonNull WebFilterChain chain) {
-        String cid = Optional.ofNullable(exchange.getRequest().getHeaders().getFirst(HDR))
-                .orElseGet(() -> UUID.randomUUID().toString());
+        long start = System.nanoTime();
+        String cid = exchange.getRequest().getHeaders().getFirst(HDR);
+        if (cid == null || cid.isBlank()) cid = CorrelationIds.next();
 
-        var mutatedRequest = exchange.getRequest().mutate().header(HDR, cid).build();
         exchange.getResponse().getHeaders().set(HDR, cid);
+        exchange.getAttributes().put(CID_KEY, cid);
 
-        var mutatedExchange = exchange.mutate().request(mutatedRequest).build();
-        mutatedExchange.getAttributes().put(HDR, cid);
+        Mono<Void> result = chain.filter(exchange).contextWrite(Context.of(CID_KEY, cid));
+        overhead.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
 
-        return chain.filter(mutatedExchange).contextWrite(ctx -> ctx.put(HDR, cid));
+    /** Id de la petición en curso; {@code null} si no pasó por el filtro. */
+    public static String correlationId(ServerWebExchange exchange) {
+        return exchange.getAttribute(CID_KEY);
     }
-}
\ No newline at end of file
+}
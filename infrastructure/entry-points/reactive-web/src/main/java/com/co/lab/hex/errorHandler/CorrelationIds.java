@@ -0,0 +1,63 @@
+package com.co.lab.hex.errorHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generador de correlation ids con formato UUID versión 7 (RFC 9562): 48 bits de epoch-millis,
+ * 12 bits de secuencia por hilo y 62 bits aleatorios de {@link ThreadLocalRandom}.
+ *
+ * <p>No es criptográfico ni usa {@code SecureRandom}: un correlation id solo necesita ser único
+ * y ordenable en el tiempo. Todo el estado es por hilo, sin locks ni CAS compartidos.
+ */
+public final class CorrelationIds {
+    private CorrelationIds() {}
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final int SEQUENCE_MASK = 0x0FFF;
+    private static final ThreadLocal<Sequence> SEQUENCE = ThreadLocal.withInitial(Sequence::new);
+
+    /** Último milisegundo emitido por el hilo y contador dentro de ese milisegundo. */
+    private static final class Sequence {
+        long millis;
+        int counter;
+    }
+
+    public static String next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Sequence seq = SEQUENCE.get();
+        long now = System.currentTimeMillis();
+        if (now > seq.millis) {
+            seq.millis = now;
+            seq.counter = random.nextInt(SEQUENCE_MASK >> 1); // arranca en la mitad baja: deja margen para crecer
+        } else if (++seq.counter > SEQUENCE_MASK) {
+            // secuencia agotada (o reloj hacia atrás): se avanza el milisegundo lógico para mantener el orden
+            seq.millis++;
+            seq.counter = 0;
+        }
+        long msb = (seq.millis << 16) | 0x7000L | seq.counter;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return format(msb, lsb);
+    }
+
+    private static String format(long msb, long lsb) {
+        byte[] out = new byte[36];
+        hex(out, 0, msb >>> 32, 8);
+        out[8] = '-';
+        hex(out, 9, msb >>> 16, 4);
+        out[13] = '-';
+        hex(out, 14, msb, 4);
+        out[18] = '-';
+        hex(out, 19, lsb >>> 48, 4);
+        out[23] = '-';
+        hex(out, 24, lsb, 12);
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void hex(byte[] out, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            out[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
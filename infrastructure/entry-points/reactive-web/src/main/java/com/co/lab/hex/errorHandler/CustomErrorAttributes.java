@@ -4,6 +4,7 @@ import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.web.error.ErrorAttributeOptions;
 import org.springframework.boot.web.reactive.error.DefaultErrorAttributes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.support.WebExchangeBindException;
@@ -11,7 +12,6 @@ import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.server.ServerWebInputException;
 
 import java.util.Map;
-import java.util.Optional;
 
 @Component
 @Slf4j
@@ -26,10 +26,21 @@ public class CustomErrorAttributes extends DefaultErrorAttributes {
                     CustomErrorAttributes.class.getClassLoader())
                     : null;
 
+    private static final String HANDLED_MSG = "Handled error. status={}, type={}, code={}, path={}, cid={}";
+
     private final ProblemDetailsMapper mapper;
+    private final CataloguedProblemBodies catalogued;
+    private final ErrorMetrics metrics;
+    private final ErrorLogLimiter logLimiter;
 
-    public CustomErrorAttributes(ProblemDetailsMapper mapper) {
+    public CustomErrorAttributes(ProblemDetailsMapper mapper,
+                                 CataloguedProblemBodies catalogued,
+                                 ErrorMetrics metrics,
+                                 ErrorLogLimiter logLimiter) {
         this.mapper = mapper;
+        this.catalogued = catalogued;
+        this.metrics = metrics;
+        this.logLimiter = logLimiter;
     }
 
     @Override
@@ -40,13 +51,41 @@ public class CustomErrorAttributes extends DefaultErrorAttributes {
         Map<String, Object> body = mapper.toProblemBody(error, request.path(), cid);
 
         int status = (int) body.getOrDefault("status", 500);
-        String msg = "Handled error. status={}, type={}, code={}, path={}, cid={}";
+        onHandled(status, body.get("type"), body.get("code"), body.get("instance"), cid, error);
+        return body;
+    }
+
+    /**
+     * Ruta rápida para errores catalogados sin {@code errors}: registra el error igual que
+     * {@link #getErrorAttributes} y devuelve el cuerpo pre-serializado, sin construir el mapa.
+     *
+     * @return {@code null} si el error debe ir por la ruta genérica
+     */
+    public PreRenderedProblem preRendered(ServerRequest request) {
+        Throwable error = unwrapBlockHoundIfNeeded(getError(request));
+        ProblemTemplate template = catalogued.templateFor(error);
+        if (template == null) return null;
+
+        String cid = resolveCid(request);
+        String path = request.path();
+        onHandled(template.status(), "about:blank", template.code(), path, cid, error);
+        return new PreRenderedProblem(template, path, cid);
+    }
+
+    /** Cabeceras que el resolutor del error agrega al response (p. ej. {@code Retry-After}). */
+    public void addProblemHeaders(ServerRequest request, HttpHeaders headers) {
+        Throwable error = unwrapBlockHoundIfNeeded(getError(request));
+        if (error != null) mapper.addHeaders(error, headers);
+    }
+
+    private void onHandled(int status, Object type, Object code, Object path, String cid, Throwable error) {
+        metrics.record(status, code, error);
+        if (!logLimiter.tryAcquire(status, code)) return;
         if (status >= 500) {
-            log.error(msg, body.get("status"), body.get("type"), body.get("code"), body.get("instance"), cid, error);
+            log.error(HANDLED_MSG, status, type, code, path, cid, error);
         } else {
-            log.warn(msg, body.get("status"), body.get("type"), body.get("code"), body.get("instance"), cid);
+            log.warn(HANDLED_MSG, status, type, code, path, cid);
         }
-        return body;
     }
 
     private Throwable unwrapBlockHoundIfNeeded(Throwable error) {
@@ -60,11 +99,6 @@ public class CustomErrorAttributes extends DefaultErrorAttributes {
     }
 
     private String resolveCid(ServerRequest request) {
-        final String HDR = CorrelationIdFilter.HDR;
-        return Optional.ofNullable(request.headers().firstHeader(HDR))
-                .or(() -> request.attribute(HDR).map(Object::toString))
-                .or(() -> Optional.ofNullable(request.exchange().getAttribute(HDR)))
-                .or(() -> Optional.ofNullable(request.exchange().getResponse().getHeaders().getFirst(HDR)))
-                .orElse(null);
+        return CorrelationIdFilter.correlationId(request.exchange());
     }
 }
@@ -0,0 +1,178 @@
+package com.co.lab.hex.errorHandler;
+
+import com.co.lab.hex.exceptions.DomainException;
+import com.co.lab.hex.exceptions.WithErrors;
+import com.co.lab.hex.exceptions.error.ErrorMessage;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.core.codec.CodecException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+import static com.co.lab.hex.errorHandler.ProblemDetailsMapper.*;
+
+/**
+ * Resolutores propios del mapper. El orden de {@link #ALL} es el de la antigua cadena de
+ * {@code instanceof}: gana el primero cuyo tipo sea asignable desde la excepción.
+ */
+final class DefaultProblemResolvers {
+    private DefaultProblemResolvers() {}
+
+    private static final String VALIDATION_ERROR = "VALIDATION_ERROR";
+    private static final String VALIDATION_FAILED = "Validation Failed";
+    static final String RATE_LIMITED = "RATE_LIMITED";
+
+    /** Cualquier otra excepción: 500 genérico. */
+    static final ProblemResolver<Throwable> FALLBACK = new ProblemResolver<>() {
+        @Override public Class<Throwable> type() { return Throwable.class; }
+        @Override public int status(Throwable ex) { return 500; }
+        @Override public void enrich(Throwable ex, Map<String, Object> body) {
+            if (ex instanceof WithErrors withErrors) putDomainErrors(withErrors, body);
+        }
+    };
+
+    static final List<ProblemResolver<?>> ALL = List.of(
+            new DomainResolver(),
+            fixed(WebClientResponseException.class, e -> e.getStatusCode().value()),
+            new ConstraintViolationResolver(),
+            new BindResolver(),
+            new InputResolver(),
+            fixed(CodecException.class, e -> 400),
+            responseStatus(MethodNotAllowedException.class, e -> 405),
+            responseStatus(UnsupportedMediaTypeStatusException.class, e -> 415),
+            responseStatus(ResponseStatusException.class, e -> e.getStatusCode().value()),
+            fixed(java.util.concurrent.TimeoutException.class, e -> 504),
+            fixed(io.netty.handler.timeout.ReadTimeoutException.class, e -> 504),
+            fixed(io.netty.handler.timeout.WriteTimeoutException.class, e -> 504),
+            fixed(CallNotPermittedException.class, e -> 503),
+            new RequestNotPermittedResolver(),
+            fixed(BulkheadFullException.class, e -> 503)
+    );
+
+    /** Solo status; title y detail con la regla genérica. */
+    private static <T extends Throwable> ProblemResolver<T> fixed(Class<T> type, ToIntFunction<T> status) {
+        return new ProblemResolver<>() {
+            @Override public Class<T> type() { return type; }
+            @Override public int status(T ex) { return status.applyAsInt(ex); }
+        };
+    }
+
+    /** Como {@link #fixed}, pero el detail sale del reason del {@link ResponseStatusException}. */
+    private static <T extends ResponseStatusException> ProblemResolver<T> responseStatus(Class<T> type, ToIntFunction<T> status) {
+        return new ProblemResolver<>() {
+            @Override public Class<T> type() { return type; }
+            @Override public int status(T ex) { return status.applyAsInt(ex); }
+            @Override public String detail(T ex, int s) { return ProblemResolver.responseStatusDetail(ex); }
+        };
+    }
+
+    private static final class DomainResolver implements ProblemResolver<Throwable> {
+        // DomainException es una interfaz, no un Throwable: se declara Throwable y se filtra en supports().
+        @Override public Class<Throwable> type() { return Throwable.class; }
+        @Override public boolean supports(Class<?> exceptionType) { return DomainException.class.isAssignableFrom(exceptionType); }
+        @Override public int status(Throwable ex) { return httpStatusFromReason(((DomainException) ex).getReason()); }
+        @Override public String title(Throwable ex, HttpStatus hs) { return ((DomainException) ex).getTitle(); }
+        @Override public void enrich(Throwable ex, Map<String, Object> body) {
+            body.put(KEY_CODE, ((DomainException) ex).getCode());
+            if (ex instanceof WithErrors withErrors) putDomainErrors(withErrors, body);
+        }
+    }
+
+    private static final class ConstraintViolationResolver implements ProblemResolver<ConstraintViolationException> {
+        @Override public Class<ConstraintViolationException> type() { return ConstraintViolationException.class; }
+        @Override public int status(ConstraintViolationException ex) { return 400; }
+        @Override public String title(ConstraintViolationException ex, HttpStatus hs) { return VALIDATION_FAILED; }
+        @Override public void enrich(ConstraintViolationException cve, Map<String, Object> body) {
+            body.put(KEY_CODE, VALIDATION_ERROR);
+            var violations = cve.getConstraintViolations().stream()
+                    .map(v -> Map.<String, Object>of(
+                            KEY_FIELD, String.valueOf(v.getPropertyPath()),
+                            KEY_MESSAGE, v.getMessage()))
+                    .toList();
+            if (!violations.isEmpty()) body.put(KEY_ERRORS, violations);
+        }
+    }
+
+    private static final class BindResolver implements ProblemResolver<WebExchangeBindException> {
+        @Override public Class<WebExchangeBindException> type() { return WebExchangeBindException.class; }
+        @Override public int status(WebExchangeBindException ex) { return 400; }
+        @Override public String title(WebExchangeBindException ex, HttpStatus hs) { return VALIDATION_FAILED; }
+        @Override public String detail(WebExchangeBindException ex, int status) { return ProblemResolver.responseStatusDetail(ex); }
+        @Override public void enrich(WebExchangeBindException bind, Map<String, Object> body) {
+            body.put(KEY_CODE, VALIDATION_ERROR);
+            var fieldErrors = bind.getFieldErrors().stream()
+                    .map(f -> Map.<String, Object>of(
+                            KEY_FIELD, f.getField(),
+                            KEY_MESSAGE, Optional.ofNullable(f.getDefaultMessage()).orElse("Invalid value")))
+                    .toList();
+            var globalErrors = bind.getGlobalErrors().stream()
+                    .map(g -> Map.<String, Object>of(
+                            KEY_OBJECT, g.getObjectName(),
+                            KEY_MESSAGE, Optional.ofNullable(g.getDefaultMessage()).orElse("Invalid value")))
+                    .toList();
+            var combined = new ArrayList<Map<String, Object>>(fieldErrors.size() + globalErrors.size());
+            combined.addAll(fieldErrors);
+            combined.addAll(globalErrors);
+            if (!combined.isEmpty()) body.put(KEY_ERRORS, combined);
+        }
+    }
+
+    private static final class InputResolver implements ProblemResolver<ServerWebInputException> {
+        @Override public Class<ServerWebInputException> type() { return ServerWebInputException.class; }
+        @Override public int status(ServerWebInputException ex) { return 400; }
+        @Override public String title(ServerWebInputException ex, HttpStatus hs) { return "Invalid Input"; }
+        @Override public String detail(ServerWebInputException ex, int status) { return ProblemResolver.responseStatusDetail(ex); }
+        @Override public void enrich(ServerWebInputException ex, Map<String, Object> body) {
+            body.put(KEY_CODE, "INVALID_INPUT");
+        }
+    }
+
+    /** Rate limiter de Resilience4j: no informa la espera, se sugiere reintentar en 1s. */
+    private static final class RequestNotPermittedResolver implements ProblemResolver<RequestNotPermitted> {
+        @Override public Class<RequestNotPermitted> type() { return RequestNotPermitted.class; }
+        @Override public int status(RequestNotPermitted ex) { return 429; }
+        @Override public String detail(RequestNotPermitted ex, int status) { return "Rate limit exceeded"; }
+        @Override public void enrich(RequestNotPermitted ex, Map<String, Object> body) {
+            body.put(KEY_CODE, RATE_LIMITED);
+        }
+        @Override public void headers(RequestNotPermitted ex, HttpHeaders headers) {
+            headers.set(HttpHeaders.RETRY_AFTER, "1");
+        }
+    }
+
+    private static void putDomainErrors(WithErrors withErrors, Map<String, Object> body) {
+        var errors = mapDomainErrors(withErrors.getErrors());
+        if (!errors.isEmpty()) body.put(KEY_ERRORS, errors);
+    }
+
+    private static List<Map<String, Object>> mapDomainErrors(List<?> rawErrors) {
+        if (rawErrors == null || rawErrors.isEmpty()) return List.of();
+        return rawErrors.stream().map(e -> {
+            if (e instanceof ErrorMessage em) {
+                Map<String, Object> m = new LinkedHashMap<>();
+                m.put(KEY_CODE, em.code());
+                m.put(KEY_MESSAGE, em.message());
+                return m;
+            }
+            if (e instanceof Map<?, ?> map) {
+                Map<String, Object> m2 = new LinkedHashMap<>();
+                for (var entry : map.entrySet()) {
+                    m2.put(String.valueOf(entry.getKey()), entry.getValue());
+                }
+                return m2;
+            }
+            return Map.<String, Object>of(KEY_MESSAGE, String.valueOf(e));
+        }).toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.co.lab.hex.errorHandler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decide qué errores manejados se registran, para que una tormenta de 5xx no convierta al log
+ * (y al armado de stack traces) en el cuello de botella.
+ *
+ * <p>Sin locks: ventana fija por (code, status) con contadores atómicos. El resumen de suprimidos
+ * lo emite un hilo propio, fuera del event loop.
+ */
+@Slf4j
+@Component
+public class ErrorLogLimiter implements DisposableBean {
+
+    private record Key(int status, String code) {}
+
+    private static final class Window {
+        volatile long startNanos;
+        final AtomicInteger logged = new AtomicInteger();
+        final LongAdder suppressed = new LongAdder();
+
+        Window(long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+
+    private final ErrorLogProperties props;
+    private final long windowNanos;
+    private final ConcurrentMap<Key, Window> windows = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService summary;
+
+    public ErrorLogLimiter(ErrorLogProperties props) {
+        this.props = props;
+        this.windowNanos = props.window().toNanos();
+        this.summary = props.rateLimited() ? Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "error-log-summary");
+            t.setDaemon(true);
+            return t;
+        }) : null;
+        if (summary != null) {
+            long ms = props.window().toMillis();
+            summary.scheduleAtFixedRate(this::logSuppressed, ms, ms, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** {@code true} si este error debe registrarse. */
+    public boolean tryAcquire(int status, Object code) {
+        if (!props.rateLimited()) return true;
+        long now = System.nanoTime();
+        Window w = windows.computeIfAbsent(new Key(status, code == null ? ErrorMetrics.NONE : code.toString()),
+                k -> new Window(now));
+        if (now - w.startNanos >= windowNanos) {
+            // Reinicio aproximado: en la frontera de la ventana pueden colarse unos pocos de más.
+            w.startNanos = now;
+            w.logged.set(0);
+        }
+        if (w.logged.incrementAndGet() <= props.burst()) return true;
+        if (props.sampleEvery() > 0 && ThreadLocalRandom.current().nextInt(props.sampleEvery()) == 0) return true;
+        w.suppressed.increment();
+        return false;
+    }
+
+    private void logSuppressed() {
+        long seconds = props.window().toSeconds();
+        windows.forEach((key, w) -> {
+            long n = w.suppressed.sumThenReset();
+            if (n > 0) {
+                log.warn("{} suppressed {} times in {}s (status={})",
+                        key.code(), String.format(Locale.ROOT, "%,d", n), seconds, key.status());
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (summary == null) return;
+        summary.shutdown();
+        logSuppressed();
+    }
+}
@@ -0,0 +1,21 @@
+package com.co.lab.hex.errorHandler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Límite del log de errores manejados ({@code entry-points.error-log.*}).
+ *
+ * <p>Por cada par (code, status) se registran hasta {@code burst} errores por {@code window};
+ * del resto solo se registra 1 de cada {@code sample-every} (0 = ninguno) y al cerrar la
+ * ventana se emite una línea de resumen con lo suprimido.
+ */
+@ConfigurationProperties(prefix = "entry-points.error-log")
+public record ErrorLogProperties(
+        @DefaultValue("true") boolean rateLimited,
+        @DefaultValue("20") int burst,
+        @DefaultValue("10s") Duration window,
+        @DefaultValue("1000") int sampleEvery
+) {}
@@ -0,0 +1,40 @@
+package com.co.lab.hex.errorHandler;
+
+import com.co.lab.hex.exceptions.DomainException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Contador {@code http.server.errors} por {@code status}, {@code code} y {@code reason}.
+ * La cardinalidad la acota el catálogo de errores; los contadores se crean una vez y se reutilizan.
+ */
+@Component
+public class ErrorMetrics {
+
+    static final String NONE = "NONE";
+
+    private record Key(int status, String code) {}
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<Key, Counter> counters = new ConcurrentHashMap<>();
+
+    public ErrorMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void record(int status, Object code, Throwable error) {
+        String codeTag = code == null ? NONE : code.toString();
+        counters.computeIfAbsent(new Key(status, codeTag), k -> Counter.builder("http.server.errors")
+                        .description("Handled errors rendered as problem+json")
+                        .tag("status", Integer.toString(k.status()))
+                        .tag("code", k.code())
+                        .tag("reason", error instanceof DomainException de && de.getReason() != null
+                                ? de.getReason().name() : NONE)
+                        .register(registry))
+                .increment();
+    }
+}
@@ -3,6 +3,7 @@ package com.co.lab.hex.errorHandler;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.web.WebProperties;
 import org.springframework.boot.autoconfigure.web.reactive.error.AbstractErrorWebExceptionHandler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.error.ErrorAttributeOptions;
 import org.springframework.boot.web.reactive.error.ErrorAttributes;
 import org.springframework.context.ApplicationContext;
@@ -10,6 +11,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.*;
 import org.springframework.web.reactive.result.view.ViewResolver;
 import org.springframework.web.server.WebExceptionHandler;
@@ -19,8 +21,11 @@ import java.util.List;
 import java.util.Map;
 
 @Configuration
+@EnableConfigurationProperties(ErrorLogProperties.class)
 public class GlobalErrorWebExceptionHandlerConfig {
 
+    private static final MediaType PROBLEM_JSON = MediaType.valueOf("application/problem+json");
+
     @Bean
     public WebExceptionHandler problemHandler(ErrorAttributes errorAttributes,
                                               ApplicationContext applicationContext,
@@ -43,11 +48,24 @@ public class GlobalErrorWebExceptionHandlerConfig {
             }
 
             private Mono<ServerResponse> renderErrorResponse(ServerRequest request) {
+                if (errorAttributes instanceof CustomErrorAttributes custom) {
+                    PreRenderedProblem problem = custom.preRendered(request);
+                    if (problem != null) {
+                        // Errores catalogados: bytes pre-serializados directo al buffer (pooled) del response.
+                        var bufferFactory = request.exchange().getResponse().bufferFactory();
+                        return ServerResponse.status(problem.status())
+                                .contentType(PROBLEM_JSON)
+                                .headers(h -> custom.addProblemHeaders(request, h))
+                                .body(BodyInserters.fromDataBuffers(Mono.fromSupplier(() -> problem.render(bufferFactory))));
+                    }
+                }
                 Map<String, Object> props = getErrorAttributes(request, ErrorAttributeOptions.defaults());
                 int status = (int) props.getOrDefault("status", 500);
-                return ServerResponse.status(status)
-                        .contentType(MediaType.valueOf("application/problem+json"))
-                        .bodyValue(props);
+                var response = ServerResponse.status(status).contentType(PROBLEM_JSON);
+                if (errorAttributes instanceof CustomErrorAttributes custom) {
+                    response.headers(h -> custom.addProblemHeaders(request, h));
+                }
+                return response.bodyValue(props);
             }
         };
     }
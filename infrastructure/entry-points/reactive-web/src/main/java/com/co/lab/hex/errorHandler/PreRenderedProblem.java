@@ -0,0 +1,18 @@
+package com.co.lab.hex.errorHandler;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+import java.time.Instant;
+
+/** Error catalogado listo para escribirse: plantilla más los campos propios de la petición. */
+public record PreRenderedProblem(ProblemTemplate template, String instance, String correlationId) {
+
+    public int status() {
+        return template.status();
+    }
+
+    public DataBuffer render(DataBufferFactory factory) {
+        return template.render(factory, instance, Instant.now().toString(), correlationId);
+    }
+}
@@ -0,0 +1,55 @@
+package com.co.lab.hex.errorHandler;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+
+/**
+ * Estrategia de Problem+JSON para una familia de excepciones ({@link #type()} y sus subclases).
+ *
+ * <p>Los adaptadores aportan las suyas como beans; {@link ProblemDetailsMapper} las consulta
+ * antes que las propias (en orden de {@code @Order}) y cachea la elegida por clase concreta.
+ * Solo {@link #status} es obligatorio: title y detail tienen la regla genérica del mapper.
+ */
+public interface ProblemResolver<T extends Throwable> {
+
+    String GENERIC_5XX_DETAIL = "An unexpected error occurred";
+
+    Class<T> type();
+
+    /** Si aplica a la clase concreta de la excepción; por defecto, {@link #type()} y sus subclases. */
+    default boolean supports(Class<?> exceptionType) {
+        return type().isAssignableFrom(exceptionType);
+    }
+
+    int status(T ex);
+
+    default String title(T ex, HttpStatus status) {
+        return status.getReasonPhrase();
+    }
+
+    /** Para 5xx nunca expone el mensaje interno. */
+    default String detail(T ex, int status) {
+        if (status >= 500) return GENERIC_5XX_DETAIL;
+        String m = ex.getMessage();
+        return (m == null || m.isBlank()) ? "Unexpected error" : m;
+    }
+
+    /** Campos extra del cuerpo ({@code code}, {@code errors}, ...). */
+    default void enrich(T ex, Map<String, Object> body) {
+    }
+
+    /** Cabeceras extra del response ({@code Retry-After}, ...). */
+    default void headers(T ex, HttpHeaders headers) {
+    }
+
+    /** Detail de un {@link ResponseStatusException}: su reason, o el reason phrase del status. */
+    static String responseStatusDetail(ResponseStatusException rse) {
+        String r = rse.getReason();
+        if (StringUtils.hasText(r)) return r;
+        return HttpStatus.valueOf(rse.getStatusCode().value()).getReasonPhrase();
+    }
+}
@@ -0,0 +1,106 @@
+package com.co.lab.hex.errorHandler;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static com.co.lab.hex.errorHandler.ProblemDetailsMapper.*;
+
+/**
+ * Cuerpo problem+json de un error catalogado, serializado una sola vez.
+ *
+ * <p>Produce los mismos bytes que Jackson sobre el mapa de {@link ProblemDetailsMapper#toProblemBody}:
+ * la parte fija ({@code type, title, status, detail} y {@code code}) se guarda como bytes y en cada
+ * respuesta solo se escriben {@code instance}, {@code timestamp} y {@code correlationId}.
+ */
+public final class ProblemTemplate {
+
+    private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+    private static final byte[] TIMESTAMP_FIELD = ascii(",\"" + KEY_TIMESTAMP + "\":");
+    private static final byte[] CORRELATION_ID_FIELD = ascii(",\"" + KEY_CORRELATION_ID + "\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte QUOTE = '"';
+    /** Holgura para instance/timestamp/correlationId típicos, evita que el buffer crezca. */
+    private static final int DYNAMIC_ESTIMATE = 160;
+
+    private final int status;
+    private final String code;
+    private final byte[] head;
+    private final byte[] tail;
+
+    private ProblemTemplate(int status, String code, byte[] head, byte[] tail) {
+        this.status = status;
+        this.code = code;
+        this.head = head;
+        this.tail = tail;
+    }
+
+    /** Toma la parte fija de un cuerpo ya mapeado; los campos dinámicos del mapa se ignoran. */
+    static ProblemTemplate of(Map<String, Object> body) {
+        int status = (int) body.get(KEY_STATUS);
+        String code = (String) body.get(KEY_CODE);
+        String head = "{" + field(KEY_TYPE, body.get(KEY_TYPE))
+                + "," + field(KEY_TITLE, body.get(KEY_TITLE))
+                + ",\"" + KEY_STATUS + "\":" + status
+                + "," + field(KEY_DETAIL, body.get(KEY_DETAIL))
+                + ",\"" + KEY_INSTANCE + "\":";
+        String tail = "," + field(KEY_CODE, code) + "}";
+        return new ProblemTemplate(status, code,
+                head.getBytes(StandardCharsets.UTF_8), tail.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int status() {
+        return status;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public DataBuffer render(DataBufferFactory factory, String instance, String timestamp, String correlationId) {
+        DataBuffer buffer = factory.allocateBuffer(head.length + tail.length + DYNAMIC_ESTIMATE);
+        buffer.write(head);
+        writeString(buffer, instance);
+        buffer.write(TIMESTAMP_FIELD);
+        writeString(buffer, timestamp);
+        buffer.write(CORRELATION_ID_FIELD);
+        writeString(buffer, correlationId);
+        buffer.write(tail);
+        return buffer;
+    }
+
+    private static void writeString(DataBuffer buffer, String value) {
+        if (value == null) {
+            buffer.write(NULL);
+            return;
+        }
+        buffer.write(QUOTE);
+        if (isPlainAscii(value)) {
+            buffer.write(value, StandardCharsets.US_ASCII);
+        } else {
+            buffer.write(ENCODER.quoteAsUTF8(value));
+        }
+        buffer.write(QUOTE);
+    }
+
+    /** ASCII imprimible sin comillas ni barras: se copia tal cual, sin escapar. */
+    private static boolean isPlainAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c >= 0x7f || c == '"' || c == '\\') return false;
+        }
+        return true;
+    }
+
+    private static String field(String key, Object value) {
+        String json = value == null ? "null" : "\"" + new String(ENCODER.quoteAsString(String.valueOf(value))) + "\"";
+        return "\"" + key + "\":" + json;
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
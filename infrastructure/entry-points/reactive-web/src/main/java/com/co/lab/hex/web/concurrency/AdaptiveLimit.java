@@ -0,0 +1,123 @@
+package com.co.lab.hex.web.concurrency;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Límite de concurrencia por gradiente de latencia (estilo Vegas/Gradient2).
+ *
+ * <p>Las muestras se acumulan en contadores sin lock y el límite se recalcula una vez por
+ * ventana, por el primer hilo que la cierra:
+ * <pre>
+ *   gradient = clamp(tolerance * rttLargo / rttCorto, 0.5, 1)
+ *   nuevo    = límite * gradient + sqrt(límite)
+ *   límite   = límite * (1 - smoothing) + nuevo * smoothing
+ * </pre>
+ * Con latencia estable el término {@code sqrt} hace crecer el límite; cuando la latencia corta
+ * supera {@code tolerance} veces la de largo plazo el gradiente lo contrae. Una ventana con
+ * sobrecarga explícita (timeouts, dependencia caída) lo recorta multiplicativamente.
+ */
+final class AdaptiveLimit {
+
+    private static final double BACKOFF = 0.9;
+    /** Ventanas que promedia el RTT de largo plazo. */
+    private static final double LONG_WINDOWS = 100;
+
+    private final ConcurrencyLimitProperties.Limit cfg;
+    private final long windowNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    private final LongAdder rttSum = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder overloads = new LongAdder();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicBoolean updating = new AtomicBoolean();
+    private volatile long windowEnd;
+
+    // Solo los toca quien gana 'updating'.
+    private double estimated;
+    private double longRtt;
+
+    AdaptiveLimit(ConcurrencyLimitProperties.Limit cfg) {
+        this.cfg = cfg;
+        this.windowNanos = cfg.window().toNanos();
+        this.estimated = Math.min(Math.max(cfg.initial(), cfg.min()), cfg.max());
+        this.limit = (int) estimated;
+        this.windowEnd = System.nanoTime() + windowNanos;
+    }
+
+    boolean tryAcquire() {
+        int n = inFlight.incrementAndGet();
+        if (n > limit) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        if (n > peakInFlight.get()) peakInFlight.accumulateAndGet(n, Math::max);
+        return true;
+    }
+
+    /** @param overload la petición terminó por sobrecarga y no aporta una latencia válida */
+    void release(long rttNanos, boolean overload) {
+        inFlight.decrementAndGet();
+        if (overload) {
+            overloads.increment();
+        } else {
+            rttSum.add(rttNanos);
+            samples.increment();
+        }
+        long now = System.nanoTime();
+        if (now - windowEnd >= 0 && updating.compareAndSet(false, true)) {
+            try {
+                update(now);
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    /** Cancelada por el cliente: libera el permiso sin aportar muestra. */
+    void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private void update(long now) {
+        windowEnd = now + windowNanos;
+        long n = samples.sumThenReset();
+        long sum = rttSum.sumThenReset();
+        long dropped = overloads.sumThenReset();
+        int peak = peakInFlight.getAndSet(0);
+
+        if (dropped > 0) {
+            apply(estimated * BACKOFF);
+            return;
+        }
+        if (n == 0) return;
+
+        double shortRtt = (double) sum / n;
+        longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / LONG_WINDOWS;
+        // Tras un período lento el promedio largo queda alto y ocultaría la próxima degradación.
+        if (longRtt > 2 * shortRtt) longRtt *= 0.95;
+
+        double gradient = Math.max(0.5, Math.min(1.0, cfg.rttTolerance() * longRtt / shortRtt));
+        double next = estimated * gradient + Math.sqrt(estimated);
+        next = estimated * (1 - cfg.smoothing()) + next * cfg.smoothing();
+        // Si no se usó ni la mitad del límite, la latencia no dice nada sobre uno mayor.
+        if (next > estimated && peak < estimated / 2) return;
+        apply(next);
+    }
+
+    private void apply(double value) {
+        estimated = Math.min(Math.max(value, cfg.min()), cfg.max());
+        limit = (int) estimated;
+    }
+}
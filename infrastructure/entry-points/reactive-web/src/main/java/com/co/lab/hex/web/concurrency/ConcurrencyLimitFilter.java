@@ -0,0 +1,140 @@
+package com.co.lab.hex.web.concurrency;
+
+import com.co.lab.hex.exceptions.DomainException;
+import com.co.lab.hex.exceptions.Reason;
+import com.co.lab.hex.exceptions.technical.CustomTechnicalException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static com.co.lab.hex.exceptions.technical.TechnicalErrorMessages.SERVICE_OVERLOADED;
+
+/**
+ * Limita las peticiones en curso con un {@link AdaptiveLimit} por ruta. Lo que excede el límite
+ * se rechaza en el acto con {@code SERVICE_OVERLOADED} (503) en lugar de encolarse en la cadena
+ * reactiva hasta el timeout de Netty (504).
+ *
+ * <p>Va justo después de {@code CorrelationIdFilter}, así el rechazo ya lleva correlation id.
+ * Métricas por {@code route}: {@code http.server.concurrency.limit}, {@code .in_flight} y
+ * {@code .rejected}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitFilter implements WebFilter {
+
+    static final String DEFAULT_ROUTE = "default";
+
+    private record Guard(AdaptiveLimit limit, Counter rejected) {}
+
+    private record RouteGuard(PathPattern pattern, Guard guard) {}
+
+    private final boolean enabled;
+    private final List<PathPattern> excluded = new ArrayList<>();
+    private final List<PathPattern> streaming = new ArrayList<>();
+    private final List<RouteGuard> routes = new ArrayList<>();
+    private final Guard fallback;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties props, MeterRegistry registry) {
+        this.enabled = props.enabled();
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        props.excluded().forEach(p -> excluded.add(parser.parse(p)));
+        props.streaming().forEach(p -> streaming.add(parser.parse(p)));
+        props.routes().forEach(r ->
+                routes.add(new RouteGuard(parser.parse(r.pattern()), guard(r.pattern(), r.limit(), registry))));
+        this.fallback = guard(DEFAULT_ROUTE, props.defaults(), registry);
+    }
+
+    private static Guard guard(String route, ConcurrencyLimitProperties.Limit cfg, MeterRegistry registry) {
+        AdaptiveLimit limit = new AdaptiveLimit(cfg);
+        Gauge.builder("http.server.concurrency.limit", limit, AdaptiveLimit::limit)
+                .description("Current adaptive concurrency limit")
+                .tag("route", route)
+                .register(registry);
+        Gauge.builder("http.server.concurrency.in_flight", limit, AdaptiveLimit::inFlight)
+                .description("Requests holding a concurrency permit")
+                .tag("route", route)
+                .register(registry);
+        Counter rejected = Counter.builder("http.server.concurrency.rejected")
+                .description("Requests shed with 503 because the concurrency limit was reached")
+                .tag("route", route)
+                .register(registry);
+        return new Guard(limit, rejected);
+    }
+
+    @Override
+    public @NonNull Mono<Void> filter(@NonNull ServerWebExchange exchange,
+                                      @NonNull WebFilterChain chain) {
+        if (!enabled) return chain.filter(exchange);
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        for (PathPattern p : excluded) {
+            if (p.matches(path)) return chain.filter(exchange);
+        }
+        Guard guard = resolve(path);
+        AdaptiveLimit limit = guard.limit();
+        if (!limit.tryAcquire()) {
+            guard.rejected().increment();
+            return Mono.error(CustomTechnicalException.shared(SERVICE_OVERLOADED));
+        }
+        if (isStreaming(exchange, path)) {
+            // Un stream dura lo que el cliente tarde en leerlo: ocupa permiso pero su duración no es latencia.
+            return chain.filter(exchange).doFinally(signal -> limit.releaseWithoutSample());
+        }
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(v -> limit.release(System.nanoTime() - start, is5xx(exchange)))
+                .doOnError(e -> limit.release(System.nanoTime() - start, isOverload(e)))
+                .doOnCancel(limit::releaseWithoutSample);
+    }
+
+    private Guard resolve(PathContainer path) {
+        for (RouteGuard r : routes) {
+            if (r.pattern().matches(path)) return r.guard();
+        }
+        return fallback;
+    }
+
+    private boolean isStreaming(ServerWebExchange exchange, PathContainer path) {
+        for (PathPattern p : streaming) {
+            if (p.matches(path)) return true;
+        }
+        for (MediaType accepted : exchange.getRequest().getHeaders().getAccept()) {
+            if (accepted.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON)
+                    || accepted.equalsTypeAndSubtype(MediaType.TEXT_EVENT_STREAM)) return true;
+        }
+        return false;
+    }
+
+    private static boolean is5xx(ServerWebExchange exchange) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null && status.is5xxServerError();
+    }
+
+    /** Señales de que el sistema no da abasto; los errores de negocio son muestras normales. */
+    static boolean isOverload(Throwable error) {
+        Throwable e = Exceptions.unwrap(error);
+        return e instanceof TimeoutException
+                || e instanceof BulkheadFullException
+                || e instanceof DomainException de && de.getReason() == Reason.SERVICE_UNAVAILABLE;
+    }
+}
@@ -0,0 +1,41 @@
+package com.co.lab.hex.web.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Límite adaptativo de concurrencia ({@code entry-points.concurrency-limit.*}).
+ *
+ * <p>{@code defaults} aplica a toda petición que no esté en {@code excluded} ni coincida con
+ * alguna de {@code routes}; cada ruta configurada tiene su propio límite e in-flight.
+ * Las rutas de {@code streaming} (y los pedidos NDJSON/SSE) ocupan permiso pero no aportan latencia.
+ */
+@ConfigurationProperties(prefix = "entry-points.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Limit defaults,
+        @DefaultValue({"/actuator/**", "/ping", "/api/tasks/events"}) List<String> excluded,
+        @DefaultValue("/api/*:export") List<String> streaming,
+        @DefaultValue List<Route> routes
+) {
+
+    /**
+     * @param rttTolerance cuánto puede crecer la latencia sobre la de largo plazo antes de bajar el límite
+     * @param smoothing    peso del nuevo valor al recalcular (0..1)
+     * @param window       cada cuánto se recalcula con las muestras acumuladas
+     */
+    public record Limit(
+            @DefaultValue("64") int initial,
+            @DefaultValue("8") int min,
+            @DefaultValue("512") int max,
+            @DefaultValue("2.0") double rttTolerance,
+            @DefaultValue("0.2") double smoothing,
+            @DefaultValue("100ms") Duration window
+    ) {}
+
+    /** {@code pattern} usa la sintaxis de {@code PathPattern}, p. ej. {@code /api/tasks:bulk}. */
+    public record Route(String pattern, @DefaultValue Limit limit) {}
+}
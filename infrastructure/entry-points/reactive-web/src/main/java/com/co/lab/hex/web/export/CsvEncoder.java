@@ -0,0 +1,177 @@
+package com.co.lab.hex.web.export;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Codifica filas CSV (RFC 4180, UTF-8) en un arreglo de bytes reutilizable, sin pasar por
+ * {@code String}: UUIDs y fechas se escriben dígito a dígito y el texto se codifica a UTF-8
+ * carácter a carácter. {@link #drainTo} copia lo acumulado a un {@link DataBuffer} del pool
+ * en una sola operación.
+ *
+ * <p>No es thread-safe: una instancia por exportación.
+ */
+public final class CsvEncoder {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] bytes;
+    private int size;
+    private boolean firstField = true;
+    private final StringBuilder scratch = new StringBuilder(32);
+
+    public CsvEncoder(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Copia lo acumulado a un buffer nuevo de {@code factory} y vacía el encoder. */
+    public DataBuffer drainTo(DataBufferFactory factory) {
+        DataBuffer buffer = factory.allocateBuffer(size);
+        buffer.write(bytes, 0, size);
+        size = 0;
+        return buffer;
+    }
+
+    public CsvEncoder endRow() {
+        ensure(2);
+        bytes[size++] = '\r';
+        bytes[size++] = '\n';
+        firstField = true;
+        return this;
+    }
+
+    /** Texto con comillas solo si hace falta ({@code , " CR LF}); {@code null} es campo vacío. */
+    public CsvEncoder text(String value) {
+        separator();
+        if (value == null) return this;
+        boolean quote = needsQuotes(value);
+        if (quote) put('"');
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c == '"') put('"');
+                put(c);
+            } else if (c < 0x800) {
+                ensure(2);
+                bytes[size++] = (byte) (0xC0 | (c >> 6));
+                bytes[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                ensure(4);
+                bytes[size++] = (byte) (0xF0 | (cp >> 18));
+                bytes[size++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                bytes[size++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                bytes[size++] = (byte) (0x80 | (cp & 0x3F));
+            } else {
+                if (Character.isSurrogate(c)) c = '?'; // surrogate suelto: no es UTF-16 válido
+                ensure(3);
+                bytes[size++] = (byte) (0xE0 | (c >> 12));
+                bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        if (quote) put('"');
+        return this;
+    }
+
+    public CsvEncoder uuid(UUID value) {
+        separator();
+        if (value == null) return this;
+        ensure(36);
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        hex(msb >>> 32, 8);
+        put('-');
+        hex(msb >>> 16, 4);
+        put('-');
+        hex(msb, 4);
+        put('-');
+        hex(lsb >>> 48, 4);
+        put('-');
+        hex(lsb, 12);
+        return this;
+    }
+
+    /** {@code yyyy-MM-dd} para años de 4 dígitos; otros rangos caen al formato estándar. */
+    public CsvEncoder date(LocalDate value) {
+        separator();
+        if (value == null) return this;
+        int year = value.getYear();
+        if (year < 1000 || year > 9999) return ascii(value.toString());
+        ensure(10);
+        digits(year, 4);
+        put('-');
+        digits(value.getMonthValue(), 2);
+        put('-');
+        digits(value.getDayOfMonth(), 2);
+        return this;
+    }
+
+    /** ISO-8601 en UTC, formateado sobre un {@code StringBuilder} reutilizable. */
+    public CsvEncoder instant(Instant value) {
+        separator();
+        if (value == null) return this;
+        scratch.setLength(0);
+        DateTimeFormatter.ISO_INSTANT.formatTo(value, scratch);
+        return ascii(scratch);
+    }
+
+    private CsvEncoder ascii(CharSequence value) {
+        int n = value.length();
+        ensure(n);
+        for (int i = 0; i < n; i++) bytes[size++] = (byte) value.charAt(i);
+        return this;
+    }
+
+    private void separator() {
+        if (firstField) {
+            firstField = false;
+        } else {
+            put(',');
+        }
+    }
+
+    private void hex(long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            bytes[size++] = HEX[(int) (value >>> shift) & 0xF];
+        }
+    }
+
+    private void digits(int value, int width) {
+        for (int i = size + width - 1; i >= size; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += width;
+    }
+
+    private void put(char c) {
+        ensure(1);
+        bytes[size++] = (byte) c;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package com.co.lab.hex.web.export;
+
+import com.co.lab.hex.exceptions.technical.CustomTechnicalException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static com.co.lab.hex.exceptions.technical.TechnicalErrorMessages.FILE_GENERATION_ERROR;
+
+/**
+ * Convierte un {@code Flux} de filas en bloques CSV de ~{@link #CHUNK_BYTES}.
+ *
+ * <ul>
+ *   <li>Una fila se lee de la base solo cuando el cliente pidió el bloque anterior: la memoria
+ *       es un bloque en vuelo más el {@code fetchSize} del driver, sea cual sea el tamaño del archivo.</li>
+ *   <li>Si el cliente se desconecta la cancelación sube hasta el driver y corta la consulta;
+ *       los buffers ya armados y no escritos se liberan al pool.</li>
+ *   <li>La cabecera viaja en el primer bloque, así una falla antes de la primera fila todavía
+ *       responde un problem+json {@code FILE_GENERATION_ERROR}; una falla posterior corta la conexión.</li>
+ * </ul>
+ */
+public final class CsvExport {
+    private CsvExport() {}
+
+    public static final int CHUNK_BYTES = 32 * 1024;
+
+    public static <T> Flux<DataBuffer> encode(Flux<T> rows, List<String> header, BiConsumer<CsvEncoder, T> writeRow,
+                                       DataBufferFactory factory) {
+        return Flux.defer(() -> {
+            CsvEncoder csv = new CsvEncoder(CHUNK_BYTES + 1024);
+            header.forEach(csv::text);
+            csv.endRow();
+            return rows.<DataBuffer>handle((row, sink) -> {
+                        writeRow.accept(csv, row);
+                        csv.endRow();
+                        if (csv.size() >= CHUNK_BYTES) sink.next(csv.drainTo(factory));
+                    })
+                    .concatWith(Mono.fromSupplier(() -> csv.size() > 0 ? csv.drainTo(factory) : null))
+                    .onErrorMap(e -> !(e instanceof CustomTechnicalException cte && cte.getCatalogEntry() == FILE_GENERATION_ERROR),
+                            e -> CustomTechnicalException.stackless(FILE_GENERATION_ERROR, e))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+        });
+    }
+}
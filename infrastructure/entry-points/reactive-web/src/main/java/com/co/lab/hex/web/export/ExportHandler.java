@@ -0,0 +1,66 @@
+package com.co.lab.hex.web.export;
+
+import com.co.lab.hex.model.execution.gateways.BlockingExecutionGateway;
+import com.co.lab.hex.model.patient.Patient;
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.usecase.patient.ListPatientsUseCase;
+import com.co.lab.hex.usecase.task.ListTasksUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Exportaciones CSV en streaming ({@code GET /api/tasks:export}, {@code GET /api/patients:export}).
+ * El gzip lo aplica la compresión del servidor cuando el cliente manda {@code Accept-Encoding: gzip}.
+ *
+ * <p>El armado del CSV corre en el scheduler de {@link BlockingExecutionGateway}: una exportación
+ * grande codifica millones de filas y no debe ocupar el event loop que atiende a las demás peticiones.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExportHandler {
+
+    static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private static final List<String> TASK_HEADER = List.of("id", "description", "created_at");
+    private static final List<String> PATIENT_HEADER = List.of("id", "dni", "full_name", "birth_date", "insurer_id");
+
+    private final ListTasksUseCase listTasksUseCase;
+    private final ListPatientsUseCase listPatientsUseCase;
+    private final BlockingExecutionGateway blocking;
+
+    public Mono<ServerResponse> exportTasks(ServerRequest request) {
+        return csv(request, "tasks.csv", listTasksUseCase.stream(null), TASK_HEADER, ExportHandler::writeTask);
+    }
+
+    public Mono<ServerResponse> exportPatients(ServerRequest request) {
+        return csv(request, "patients.csv", listPatientsUseCase.stream(), PATIENT_HEADER, ExportHandler::writePatient);
+    }
+
+    private <T> Mono<ServerResponse> csv(ServerRequest request, String filename, Flux<T> rows,
+                                                List<String> header, BiConsumer<CsvEncoder, T> writeRow) {
+        var factory = request.exchange().getResponse().bufferFactory();
+        return ServerResponse.ok()
+                .contentType(TEXT_CSV)
+                .headers(h -> h.setContentDisposition(ContentDisposition.attachment().filename(filename).build()))
+                .body(BodyInserters.fromDataBuffers(CsvExport.encode(blocking.offload(rows), header, writeRow, factory)));
+    }
+
+    private static void writeTask(CsvEncoder csv, Task task) {
+        csv.uuid(task.id()).text(task.description()).instant(task.createdAt());
+    }
+
+    private static void writePatient(CsvEncoder csv, Patient patient) {
+        csv.uuid(patient.id()).text(patient.dni()).text(patient.fullName())
+                .date(patient.birthDate()).text(patient.insurerId());
+    }
+}
@@ -0,0 +1,20 @@
+package com.co.lab.hex.web.export;
+
+import com.co.lab.hex.web.ratelimit.ClientRateLimiter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+public class ExportRouter {
+    @Bean
+    RouterFunction<ServerResponse> exportRoutes(ExportHandler h, ClientRateLimiter rateLimit) {
+        return RouterFunctions.route()
+                .GET("/api/tasks:export", h::exportTasks)
+                .GET("/api/patients:export", h::exportPatients)
+                .filter(rateLimit)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.co.lab.hex.web.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Soporte de {@code Idempotency-Key} ({@code entry-points.idempotency.*}).
+ *
+ * <p>{@code ttl} es cuánto se repite una respuesta completada; {@code memory-max-entries}
+ * acota el almacén en memoria (no aplica al de Postgres).
+ */
+@ConfigurationProperties(prefix = "entry-points.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("100000") long memoryMaxEntries
+) {}
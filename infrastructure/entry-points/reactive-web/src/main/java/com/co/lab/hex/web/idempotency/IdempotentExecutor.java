@@ -0,0 +1,179 @@
+package com.co.lab.hex.web.idempotency;
+
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.model.idempotency.IdempotentResponse;
+import com.co.lab.hex.model.idempotency.gateways.IdempotencyGateway;
+import com.co.lab.hex.web.ratelimit.ClientIdentity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.IDEMPOTENCY_KEY_REUSED;
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.INVALID_INPUT;
+
+/**
+ * Ejecuta una escritura a lo sumo una vez por {@code Idempotency-Key}.
+ *
+ * <ul>
+ *   <li>Peticiones concurrentes con la misma clave comparten una sola ejecución (single-flight).</li>
+ *   <li>Una respuesta 2xx completada se guarda {@code ttl} y se repite tal cual, con
+ *       {@code Idempotent-Replayed: true}. Los errores no se guardan: el reintento vuelve a ejecutar.</li>
+ *   <li>La misma clave con otro payload responde {@code IDEMPOTENCY_KEY_REUSED} (409).</li>
+ * </ul>
+ *
+ * <p>La clave vale dentro de un cliente ({@link ClientIdentity}, el mismo del rate limit): dos
+ * clientes con la misma clave y el mismo payload no comparten respuesta. En memoria y en el almacén
+ * se usa el hash de cliente + clave, de largo fijo.
+ *
+ * <p>El single-flight es por nodo; entre nodos la garantía la da el almacén de Postgres,
+ * que conserva la primera respuesta guardada.
+ */
+@Slf4j
+@Component
+public class IdempotentExecutor {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+
+    /** Respuesta a guardar; {@code body} se serializa una sola vez y se repite como texto. */
+    public record Reply(HttpStatus status, URI location, Object body) {}
+
+    private record Result(IdempotentResponse response, boolean replayed) {}
+
+    private record InFlight(String fingerprint, Mono<Result> result) {}
+
+    private final IdempotencyGateway store;
+    private final ClientIdentity clients;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotentExecutor(IdempotencyGateway store, ClientIdentity clients, ObjectMapper objectMapper,
+                              IdempotencyProperties props) {
+        this.store = store;
+        this.clients = clients;
+        this.objectMapper = objectMapper;
+        this.enabled = props.enabled();
+        this.ttl = props.ttl();
+    }
+
+    /** Clave de la petición, o {@code null} si no trae (o el soporte está apagado). */
+    public String keyOf(ServerRequest request) {
+        return enabled ? request.headers().firstHeader(HEADER) : null;
+    }
+
+    /**
+     * @param key         la de {@link #keyOf}; se combina con el cliente de {@code request}
+     * @param fingerprint identifica el payload; ver {@link #fingerprint(String...)}
+     * @param action      la escritura; solo se suscribe si no hay respuesta guardada ni en vuelo
+     */
+    public Mono<ServerResponse> execute(ServerRequest request, String key, String fingerprint,
+                                        Supplier<Mono<Reply>> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return Mono.error(CustomBusinessException.shared(INVALID_INPUT));
+        }
+        return Mono.defer(() -> join(fingerprint(clients.of(request), key), fingerprint, action))
+                .flatMap(IdempotentExecutor::render);
+    }
+
+    /**
+     * La ejecución se suscribe aquí y no en cada llamador: si el primer cliente cancela,
+     * los que esperan igual reciben la respuesta y esta queda guardada.
+     */
+    private Mono<Result> join(String key, String fingerprint, Supplier<Mono<Reply>> action) {
+        Sinks.One<Result> sink = Sinks.one();
+        InFlight mine = new InFlight(fingerprint, sink.asMono());
+        InFlight existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                return Mono.error(CustomBusinessException.shared(IDEMPOTENCY_KEY_REUSED));
+            }
+            return existing.result().map(r -> new Result(r.response(), true));
+        }
+
+        store.find(key)
+                .flatMap(stored -> stored.sameRequest(fingerprint)
+                        ? Mono.just(new Result(stored, true))
+                        : Mono.<Result>error(CustomBusinessException.shared(IDEMPOTENCY_KEY_REUSED)))
+                .switchIfEmpty(Mono.defer(() -> action.get()
+                        .flatMap(reply -> toStored(key, fingerprint, reply))
+                        .flatMap(this::saveIfSuccessful)
+                        .map(response -> new Result(response, false))))
+                .subscribe(
+                        result -> {
+                            inFlight.remove(key, mine);
+                            sink.tryEmitValue(result);
+                        },
+                        e -> {
+                            inFlight.remove(key, mine);
+                            sink.tryEmitError(e);
+                        },
+                        () -> {
+                            inFlight.remove(key, mine);
+                            sink.tryEmitEmpty();
+                        });
+        return sink.asMono();
+    }
+
+    private Mono<IdempotentResponse> toStored(String key, String fingerprint, Reply reply) {
+        return Mono.fromCallable(() -> new IdempotentResponse(
+                key,
+                fingerprint,
+                reply.status().value(),
+                reply.location() == null ? null : reply.location().toString(),
+                objectMapper.writeValueAsString(reply.body()),
+                Instant.now().plus(ttl)));
+    }
+
+    /** Si el almacén falla la respuesta se entrega igual; solo se pierde la protección ante un reintento. */
+    private Mono<IdempotentResponse> saveIfSuccessful(IdempotentResponse response) {
+        if (response.status() < 200 || response.status() >= 300) return Mono.just(response);
+        return store.save(response)
+                .onErrorResume(e -> {
+                    log.warn("Idempotent response not stored. key={}, error={}", response.key(), e.toString());
+                    return Mono.empty();
+                })
+                .thenReturn(response);
+    }
+
+    private static Mono<ServerResponse> render(Result result) {
+        IdempotentResponse response = result.response();
+        var builder = ServerResponse.status(response.status()).contentType(MediaType.APPLICATION_JSON);
+        if (response.location() != null) builder.location(URI.create(response.location()));
+        if (result.replayed()) builder.header(REPLAYED_HEADER, "true");
+        return builder.bodyValue(response.body());
+    }
+
+    /** SHA-256 (hex) de las partes, separadas por un byte nulo para que no se confundan fronteras. */
+    public static String fingerprint(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                if (part != null) digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
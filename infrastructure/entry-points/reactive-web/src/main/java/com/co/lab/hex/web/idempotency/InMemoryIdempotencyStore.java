@@ -0,0 +1,42 @@
+package com.co.lab.hex.web.idempotency;
+
+import com.co.lab.hex.model.idempotency.IdempotentResponse;
+import com.co.lab.hex.model.idempotency.gateways.IdempotencyGateway;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * {@link IdempotencyGateway} local al nodo, acotado por tamaño y TTL. Es el almacén por defecto;
+ * con {@code adapters.r2dbc.idempotency.enabled=true} se usa el de Postgres, compartido entre nodos.
+ */
+@Component
+@ConditionalOnProperty(prefix = "adapters.r2dbc.idempotency", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyGateway {
+
+    private final Cache<String, IdempotentResponse> responses;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties props) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(props.memoryMaxEntries())
+                .expireAfterWrite(props.ttl())
+                .build();
+    }
+
+    @Override
+    public Mono<IdempotentResponse> find(String key) {
+        return Mono.fromSupplier(() -> {
+            IdempotentResponse stored = responses.getIfPresent(key);
+            return stored != null && stored.expiresAt().isAfter(Instant.now()) ? stored : null;
+        });
+    }
+
+    @Override
+    public Mono<Void> save(IdempotentResponse response) {
+        return Mono.fromRunnable(() -> responses.asMap().putIfAbsent(response.key(), response));
+    }
+}
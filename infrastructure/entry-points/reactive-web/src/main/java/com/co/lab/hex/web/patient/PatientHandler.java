@@ -0,0 +1,25 @@
+package com.co.lab.hex.web.patient;
+
+import com.co.lab.hex.usecase.patient.GetPatientUseCase;
+import com.co.lab.hex.web.patient.dto.PatientResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class PatientHandler {
+
+    private final GetPatientUseCase getPatientUseCase;
+
+    /** {@code GET /api/patients/{dni}}; si no existe, 404 {@code PATIENT_NOT_FOUND}. */
+    public Mono<ServerResponse> byDni(ServerRequest request) {
+        return getPatientUseCase.byDni(request.pathVariable("dni"))
+                .flatMap(patient -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(PatientResponse.from(patient)));
+    }
+}
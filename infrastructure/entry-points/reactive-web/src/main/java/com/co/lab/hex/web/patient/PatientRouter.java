@@ -0,0 +1,19 @@
+package com.co.lab.hex.web.patient;
+
+import com.co.lab.hex.web.ratelimit.ClientRateLimiter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+public class PatientRouter {
+    @Bean
+    RouterFunction<ServerResponse> patientRoutes(PatientHandler h, ClientRateLimiter rateLimit) {
+        return RouterFunctions.route()
+                .GET("/api/patients/{dni}", h::byDni)
+                .filter(rateLimit)
+                .build();
+    }
+}
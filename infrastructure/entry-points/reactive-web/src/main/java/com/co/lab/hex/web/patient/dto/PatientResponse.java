@@ -0,0 +1,14 @@
+package com.co.lab.hex.web.patient.dto;
+
+import com.co.lab.hex.model.patient.Patient;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record PatientResponse(UUID id, String dni, String fullName, LocalDate birthDate, String insurerId) {
+
+    public static PatientResponse from(Patient patient) {
+        return new PatientResponse(patient.id(), patient.dni(), patient.fullName(), patient.birthDate(),
+                patient.insurerId());
+    }
+}
@@ -0,0 +1,59 @@
+package com.co.lab.hex.web.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Quién hace la petición: la clave del rate limit y el alcance de {@code Idempotency-Key}.
+ *
+ * <p>Si un filtro de autenticación dejó el cliente en {@link #AUTHENTICATED_CLIENT}, es ese. Si no,
+ * la dirección remota: {@code client-header} nadie lo valida, así que no alcanza por sí solo (una
+ * key nueva por petición sería un bucket lleno nuevo cada vez). Con el header, el cliente es
+ * dirección + key, hasta {@code max-keys-per-address} keys distintas por dirección; las que
+ * sobran comparten el cliente de la dirección.
+ */
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class ClientIdentity {
+
+    /** Atributo del exchange con la identidad ya autenticada; tiene prioridad sobre todo lo demás. */
+    public static final String AUTHENTICATED_CLIENT = ClientIdentity.class.getName() + ".authenticated";
+
+    private final String clientHeader;
+    private final int maxKeysPerAddress;
+    private final Cache<String, Set<String>> keysByAddress;
+
+    public ClientIdentity(RateLimitProperties props) {
+        this.clientHeader = props.clientHeader();
+        this.maxKeysPerAddress = props.maxKeysPerAddress();
+        this.keysByAddress = Caffeine.newBuilder()
+                .maximumSize(props.maxClients())
+                .expireAfterAccess(props.idleTtl())
+                .build();
+    }
+
+    public String of(ServerRequest request) {
+        Object authenticated = request.exchange().getAttribute(AUTHENTICATED_CLIENT);
+        if (authenticated != null) return "auth:" + authenticated;
+        String address = request.remoteAddress()
+                .map(InetSocketAddress::getAddress)
+                .map(InetAddress::getHostAddress)
+                .orElse("unknown");
+        String apiKey = request.headers().firstHeader(clientHeader);
+        if (apiKey == null || apiKey.isEmpty() || maxKeysPerAddress <= 0) return address;
+        Set<String> keys = keysByAddress.get(address, a -> ConcurrentHashMap.newKeySet());
+        // Carrera benigna: dos keys nuevas a la vez pueden pasar el tope por una.
+        if (keys.contains(apiKey) || keys.size() < maxKeysPerAddress && keys.add(apiKey)) {
+            return address + " " + apiKey;
+        }
+        return address;
+    }
+}
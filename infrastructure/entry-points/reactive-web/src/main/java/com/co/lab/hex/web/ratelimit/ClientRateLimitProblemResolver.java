@@ -0,0 +1,32 @@
+package com.co.lab.hex.web.ratelimit;
+
+import com.co.lab.hex.errorHandler.ProblemResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/** {@link ClientRateLimitedException} → 429 con {@code Retry-After} en segundos. */
+@Component
+public class ClientRateLimitProblemResolver implements ProblemResolver<ClientRateLimitedException> {
+
+    @Override
+    public Class<ClientRateLimitedException> type() {
+        return ClientRateLimitedException.class;
+    }
+
+    @Override
+    public int status(ClientRateLimitedException ex) {
+        return 429;
+    }
+
+    @Override
+    public void enrich(ClientRateLimitedException ex, Map<String, Object> body) {
+        body.put("code", "RATE_LIMITED");
+    }
+
+    @Override
+    public void headers(ClientRateLimitedException ex, HttpHeaders headers) {
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()));
+    }
+}
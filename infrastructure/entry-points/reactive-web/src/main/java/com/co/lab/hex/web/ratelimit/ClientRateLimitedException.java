@@ -0,0 +1,16 @@
+package com.co.lab.hex.web.ratelimit;
+
+/** Cliente sin fichas. Sin stack trace: es control de flujo y puede lanzarse miles de veces por segundo. */
+public class ClientRateLimitedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ClientRateLimitedException(long retryAfterSeconds) {
+        super("Rate limit exceeded", null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,97 @@
+package com.co.lab.hex.web.ratelimit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro de las rutas de tareas: una ficha del {@link TokenBucketStore} por petición. Sin ficha
+ * responde 429 con {@code Retry-After} vía {@link ClientRateLimitProblemResolver}.
+ *
+ * <p>El cliente lo resuelve {@link ClientIdentity}: la IP remota, o IP + API key con un tope de
+ * keys por IP (el header no está autenticado). La métrica
+ * {@code http.server.rate_limit.clients} expone cuántos buckets hay vivos,
+ * {@code http.server.rate_limit.evicted} los descartados al admitir clientes nuevos y
+ * {@code http.server.rate_limit.overflow} las peticiones que igual cayeron en el bucket común; el
+ * barrido periódico también lo deja en el log.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class ClientRateLimiter implements HandlerFilterFunction<ServerResponse, ServerResponse>, DisposableBean {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final boolean enabled;
+    private final ClientIdentity clients;
+    private final TokenBucketStore buckets;
+    private final ScheduledExecutorService sweeper;
+    private long reportedOverflow;
+
+    public ClientRateLimiter(RateLimitProperties props, ClientIdentity clients, MeterRegistry registry) {
+        this.enabled = props.enabled();
+        this.clients = clients;
+        this.buckets = new TokenBucketStore(props.capacity(), props.refillPerSecond(), props.stripes(),
+                props.maxClients(), props.idleTtl().toNanos());
+        Gauge.builder("http.server.rate_limit.clients", buckets, TokenBucketStore::clients)
+                .description("Clients with a live token bucket")
+                .register(registry);
+        FunctionCounter.builder("http.server.rate_limit.evicted", buckets, TokenBucketStore::evictedOnAdmission)
+                .description("Refilled buckets dropped to admit a new client into a full stripe")
+                .register(registry);
+        FunctionCounter.builder("http.server.rate_limit.overflow", buckets, TokenBucketStore::overflowed)
+                .description("Requests charged to the shared overflow bucket because max-clients was reached")
+                .register(registry);
+
+        this.sweeper = enabled ? Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "rate-limit-evictor");
+            t.setDaemon(true);
+            return t;
+        }) : null;
+        if (sweeper != null) {
+            // Cada stripe se barre una vez por idle-ttl.
+            long periodMs = Math.max(1, props.idleTtl().toMillis() / buckets.stripeCount());
+            sweeper.scheduleAtFixedRate(this::sweep, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Corre en el hilo del barrido, nunca en el event loop. */
+    private void sweep() {
+        buckets.evictIdle();
+        long overflow = buckets.overflowed();
+        if (overflow > reportedOverflow) {
+            log.warn("Rate limit max-clients reached: {} requests shared the overflow bucket (clients={})",
+                    overflow - reportedOverflow, buckets.clients());
+            reportedOverflow = overflow;
+        }
+    }
+
+    @Override
+    public @NonNull Mono<ServerResponse> filter(@NonNull ServerRequest request,
+                                                @NonNull HandlerFunction<ServerResponse> next) {
+        if (!enabled) return next.handle(request);
+        long wait = buckets.tryAcquire(clients.of(request));
+        if (wait == TokenBucketStore.GRANTED) return next.handle(request);
+        long seconds = Math.max(1, (wait + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+        return Mono.error(new ClientRateLimitedException(seconds));
+    }
+
+    @Override
+    public void destroy() {
+        if (sweeper != null) sweeper.shutdownNow();
+    }
+}
@@ -0,0 +1,27 @@
+package com.co.lab.hex.web.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Rate limit por cliente en las rutas de tareas ({@code entry-points.rate-limit.*}).
+ *
+ * <p>Cada cliente ({@link ClientIdentity}: la IP remota, o IP + API key de {@code client-header} hasta
+ * {@code max-keys-per-address} keys por IP) tiene un token bucket de {@code capacity} fichas que se
+ * repone a {@code refill-per-second}. Los clientes sin tráfico por
+ * {@code idle-ttl} se descartan. Con {@code max-clients} alcanzado, un cliente nuevo desplaza a los
+ * buckets ya repuestos; si no hay ninguno comparte un bucket común ({@code http.server.rate_limit.overflow}).
+ */
+@ConfigurationProperties(prefix = "entry-points.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int capacity,
+        @DefaultValue("50") double refillPerSecond,
+        @DefaultValue("X-Api-Key") String clientHeader,
+        @DefaultValue("16") int maxKeysPerAddress,
+        @DefaultValue("64") int stripes,
+        @DefaultValue("500000") int maxClients,
+        @DefaultValue("10m") Duration idleTtl
+) {}
@@ -0,0 +1,134 @@
+package com.co.lab.hex.web.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token buckets por cliente, sin locks.
+ *
+ * <p>Cada bucket es un único {@link AtomicLong} con el "tiempo teórico de llegada" (GCRA): consumir
+ * una ficha es correrlo {@code 1/refill} hacia adelante con un CAS, y el bucket está vacío cuando
+ * ese tiempo supera a {@code now} en más de {@code capacity} fichas. No hay que reponer nada en
+ * segundo plano ni guardar un contador aparte.
+ *
+ * <p>Los buckets se reparten en {@code stripes} mapas para poder barrer los ociosos de a uno
+ * ({@link #evictIdle}) sin recorrer todo el almacén a la vez. Un bucket se descarta solo
+ * cuando ya está lleno, así que descartarlo no cambia lo que verá el cliente.
+ *
+ * <p>Un cliente nuevo que cae en un stripe lleno no espera al barrido periódico: se descartan ahí
+ * mismo los buckets de ese stripe que ya se repusieron por completo (como mucho un barrido por
+ * stripe cada 100 ms). Solo si aun así no hay lugar se le cobra al bucket
+ * común {@code OVERFLOW}, y cada petición así se cuenta en {@link #overflowed()}.
+ */
+public final class TokenBucketStore {
+
+    /** Resultado de {@link #tryAcquire} cuando hay ficha. */
+    public static final long GRANTED = 0;
+    static final String OVERFLOW = "\u0000overflow";
+    private static final long ADMISSION_SWEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final long emissionNanos;
+    private final long capacityNanos;
+    private final long idleNanos;
+    private final int maxPerStripe;
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    private final AtomicInteger nextToSweep = new AtomicInteger();
+    /** Cuándo puede volver a barrerse cada stripe al admitir un cliente. */
+    private final AtomicLongArray admissionSweepAt;
+    private final LongAdder evictedOnAdmission = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketStore(int capacity, double refillPerSecond, int stripes, int maxClients, long idleNanos) {
+        this.emissionNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.capacityNanos = emissionNanos * capacity;
+        this.idleNanos = Math.max(idleNanos, capacityNanos);
+        int n = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.maxPerStripe = Math.max(1, maxClients / n);
+        this.stripes = new ConcurrentHashMap[n];
+        for (int i = 0; i < n; i++) this.stripes[i] = new ConcurrentHashMap<>();
+        this.admissionSweepAt = new AtomicLongArray(n);
+        long now = System.nanoTime();
+        for (int i = 0; i < n; i++) this.admissionSweepAt.set(i, now);
+    }
+
+    /** @return {@link #GRANTED}, o los nanos que faltan para la próxima ficha */
+    public long tryAcquire(String client) {
+        long now = System.nanoTime();
+        AtomicLong tat = bucket(client, now);
+        for (;;) {
+            long current = tat.get();
+            long next = Math.max(current, now) + emissionNanos;
+            long wait = next - now - capacityNanos;
+            if (wait > 0) return wait;
+            if (tat.compareAndSet(current, next)) return GRANTED;
+        }
+    }
+
+    private AtomicLong bucket(String client, long now) {
+        int index = spread(client.hashCode()) & (stripes.length - 1);
+        var stripe = stripes[index];
+        AtomicLong tat = stripe.get(client);
+        if (tat != null) return tat;
+        if (stripe.size() >= maxPerStripe && !evictFull(index, now)) {
+            overflowed.increment();
+            stripe = stripes[0];
+            client = OVERFLOW;
+        }
+        return stripe.computeIfAbsent(client, k -> new AtomicLong(now));
+    }
+
+    /**
+     * Descarta los buckets llenos ({@code tat <= now}) del stripe; uno nuevo arrancaría igual. Si otro
+     * hilo ya lo barrió hace menos de {@code ADMISSION_SWEEP_NANOS} no se vuelve a recorrer.
+     *
+     * @return si el stripe quedó con lugar
+     */
+    private boolean evictFull(int index, long now) {
+        var stripe = stripes[index];
+        long at = admissionSweepAt.get(index);
+        if (now - at >= 0 && admissionSweepAt.compareAndSet(index, at, now + ADMISSION_SWEEP_NANOS)) {
+            int before = stripe.size();
+            stripe.values().removeIf(tat -> tat.get() - now <= 0);
+            evictedOnAdmission.add(before - stripe.size());
+        }
+        return stripe.size() < maxPerStripe;
+    }
+
+    /** Barre el siguiente stripe; llamado periódicamente, recorre todos cada {@code stripes} llamadas. */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        var stripe = stripes[nextToSweep.getAndIncrement() & (stripes.length - 1)];
+        int before = stripe.size();
+        stripe.values().removeIf(tat -> now - tat.get() > idleNanos);
+        return before - stripe.size();
+    }
+
+    /** Buckets descartados al admitir clientes nuevos en un stripe lleno. */
+    public long evictedOnAdmission() {
+        return evictedOnAdmission.sum();
+    }
+
+    /** Peticiones cobradas al bucket común porque el stripe del cliente seguía lleno. */
+    public long overflowed() {
+        return overflowed.sum();
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    public long clients() {
+        long total = 0;
+        for (var stripe : stripes) total += stripe.size();
+        return total;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,144 @@
+package com.co.lab.hex.web.task;
+
+import com.co.lab.hex.exceptions.DomainException;
+import com.co.lab.hex.exceptions.business.BusinessErrorMessages;
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.exceptions.error.ErrorMessage;
+import com.co.lab.hex.exceptions.error.Errors;
+import com.co.lab.hex.exceptions.technical.TechnicalErrorMessages;
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.usecase.task.CreateTaskUseCase;
+import com.co.lab.hex.web.task.dto.BulkTaskResult;
+import com.co.lab.hex.web.task.dto.CreateTaskRequest;
+import com.co.lab.hex.web.validation.RecordValidator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ingesta masiva NDJSON: una {@link CreateTaskRequest} por línea.
+ *
+ * <p>El cuerpo se lee línea a línea y se escribe en bloques de {@code chunk-size};
+ * el siguiente bloque solo se pide cuando el anterior quedó persistido y emitido,
+ * así la memoria no depende del tamaño de la carga. Una línea inválida (JSON mal
+ * formado, {@code null} o validación) se reporta en su propio resultado y no corta el stream;
+ * lo mismo una línea válida que la base rechaza, sin arrastrar al resto de su bloque.
+ */
+@Component
+public class TaskBulkHandler {
+
+    private static final String VALIDATION_ERROR = "VALIDATION_ERROR";
+    private static final RecordValidator<CreateTaskRequest> CREATE_REQUEST =
+            RecordValidator.compile(CreateTaskRequest.class);
+
+    private final CreateTaskUseCase createTaskUseCase;
+    private final ObjectReader reader;
+    private final int chunkSize;
+
+    public TaskBulkHandler(CreateTaskUseCase createTaskUseCase,
+                           ObjectMapper objectMapper,
+                           TaskBulkProperties props) {
+        this.createTaskUseCase = createTaskUseCase;
+        this.reader = objectMapper.readerFor(CreateTaskRequest.class);
+        this.chunkSize = props.chunkSize();
+    }
+
+    public Mono<ServerResponse> createBulk(ServerRequest request) {
+        Flux<BulkTaskResult> results = request.bodyToFlux(String.class)
+                .index()
+                .filter(line -> !line.getT2().isBlank())
+                .map(line -> parse(line.getT1() + 1, line.getT2()))
+                .buffer(chunkSize)
+                .concatMap(this::writeChunk, 1);
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(results, BulkTaskResult.class);
+    }
+
+    private BulkLine parse(long line, String json) {
+        CreateTaskRequest req;
+        try {
+            req = reader.readValue(json);
+        } catch (JsonProcessingException e) {
+            return BulkLine.invalid(line, List.of(Errors.e(
+                    BusinessErrorMessages.INVALID_INPUT.getCode(), "Malformed JSON line")));
+        }
+        if (req == null) {
+            return BulkLine.invalid(line, List.of(Errors.e(VALIDATION_ERROR, RecordValidator.MISSING_BODY)));
+        }
+        var violations = CREATE_REQUEST.violations(req);
+        if (violations.isEmpty()) return new BulkLine(line, req, List.of());
+        return BulkLine.invalid(line, violations.stream()
+                .map(v -> Errors.e(VALIDATION_ERROR, v.field() + ": " + v.message()))
+                .toList());
+    }
+
+    private Flux<BulkTaskResult> writeChunk(List<BulkLine> chunk) {
+        List<BulkLine> valid = new ArrayList<>(chunk.size());
+        for (BulkLine l : chunk) {
+            if (l.isValid()) valid.add(l);
+        }
+        if (valid.isEmpty()) {
+            return Flux.fromIterable(chunk).map(l -> BulkTaskResult.rejected(l.line(), l.errors()));
+        }
+        return write(valid)
+                .collectMap(BulkTaskResult::line)
+                .flatMapIterable(written -> chunk.stream()
+                        .map(l -> l.isValid() ? written.get(l.line()) : BulkTaskResult.rejected(l.line(), l.errors()))
+                        .toList());
+    }
+
+    /**
+     * Un solo {@code createAll} por bloque. Si la base rechaza alguna línea ({@code DATA_REJECTED}),
+     * el bloque se parte en mitades hasta aislarla: solo esa línea queda {@code REJECTED} y las demás
+     * se crean. Cualquier otra falla (base caída, sobrecarga) rechaza el bloque entero.
+     */
+    private Flux<BulkTaskResult> write(List<BulkLine> lines) {
+        List<String> descriptions = lines.stream().map(l -> l.request().description()).toList();
+        return createTaskUseCase.createAll(descriptions)
+                .map(Task::id)
+                .collectList()
+                .flatMapIterable(ids -> {
+                    Iterator<UUID> it = ids.iterator();
+                    return lines.stream().map(l -> BulkTaskResult.created(l.line(), it.next())).toList();
+                })
+                .onErrorResume(e -> {
+                    if (lines.size() > 1 && isRejectedData(e)) {
+                        int half = lines.size() / 2;
+                        return write(lines.subList(0, half)).concatWith(write(lines.subList(half, lines.size())));
+                    }
+                    List<ErrorMessage> failure = List.of(errorOf(e));
+                    return Flux.fromIterable(lines).map(l -> BulkTaskResult.rejected(l.line(), failure));
+                });
+    }
+
+    private static boolean isRejectedData(Throwable e) {
+        return e instanceof CustomBusinessException be && be.getCatalogEntry() == BusinessErrorMessages.DATA_REJECTED;
+    }
+
+    private static ErrorMessage errorOf(Throwable e) {
+        if (e instanceof DomainException de) return Errors.e(de.getCode(), e.getMessage());
+        return Errors.e(TechnicalErrorMessages.INTERNAL_ERROR.getCode(), TechnicalErrorMessages.INTERNAL_ERROR.getMessage());
+    }
+
+    private record BulkLine(long line, CreateTaskRequest request, List<ErrorMessage> errors) {
+        static BulkLine invalid(long line, List<ErrorMessage> errors) {
+            return new BulkLine(line, null, errors);
+        }
+
+        boolean isValid() {
+            return errors.isEmpty();
+        }
+    }
+}
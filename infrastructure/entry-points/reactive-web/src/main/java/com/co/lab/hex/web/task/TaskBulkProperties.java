@@ -0,0 +1,13 @@
+package com.co.lab.hex.web.task;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Ingesta NDJSON ({@code entry-points.tasks.bulk.*}).
+ * {@code chunk-size} acota cuántas líneas se retienen y escriben por INSERT.
+ */
+@ConfigurationProperties(prefix = "entry-points.tasks.bulk")
+public record TaskBulkProperties(
+        @DefaultValue("500") int chunkSize
+) {}
@@ -0,0 +1,39 @@
+package com.co.lab.hex.web.task;
+
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.model.task.TaskCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.INVALID_INPUT;
+
+/**
+ * Cursor opaco de los listados: {@code createdAt|id} en base64url. El cliente solo lo devuelve,
+ * así el formato puede cambiar sin romper la API. Un cursor ilegible es {@code INVALID_INPUT} (400).
+ */
+final class TaskCursors {
+    private TaskCursors() {}
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    static String encode(TaskCursor cursor) {
+        String raw = cursor.createdAt() + "|" + cursor.id();
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** @return {@code null} si {@code token} es {@code null} o vacío (desde el principio) */
+    static TaskCursor decode(String token) {
+        if (token == null || token.isEmpty()) return null;
+        try {
+            String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new TaskCursor(Instant.parse(raw.substring(0, sep)), UUID.fromString(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw CustomBusinessException.shared(INVALID_INPUT);
+        }
+    }
+}
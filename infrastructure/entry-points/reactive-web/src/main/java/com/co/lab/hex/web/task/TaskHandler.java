@@ -1,24 +1,109 @@
 package com.co.lab.hex.web.task;
 
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.usecase.task.AcceptTaskUseCase;
+import com.co.lab.hex.usecase.task.CreateTaskUseCase;
+import com.co.lab.hex.web.idempotency.IdempotentExecutor;
 import com.co.lab.hex.web.task.dto.CreateTaskRequest;
+import com.co.lab.hex.web.task.dto.TaskAcceptedResponse;
+import com.co.lab.hex.web.task.dto.TaskResponse;
+import com.co.lab.hex.web.validation.RecordValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.validation.annotation.Validated;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
+import java.util.UUID;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.INVALID_INPUT;
+
 @Component
-@Validated
+@RequiredArgsConstructor
 public class TaskHandler {
 
+    private static final RecordValidator<CreateTaskRequest> CREATE_REQUEST =
+            RecordValidator.compile(CreateTaskRequest.class);
+
+    private final CreateTaskUseCase createTaskUseCase;
+    private final AcceptTaskUseCase acceptTaskUseCase;
+    private final IdempotentExecutor idempotency;
+    private final TaskReadCache readCache;
+
+    /**
+     * Con {@code Idempotency-Key} los reintentos repiten la primera respuesta en lugar de crear otra tarea.
+     * Con escritura diferida responde {@code 202} y la URL de estado en lugar de esperar a la base.
+     * Un cuerpo vacío o {@code null} es un 400 de validación, no una respuesta vacía.
+     */
     public Mono<ServerResponse> create(ServerRequest request) {
-        return request.bodyToMono(CreateTaskRequest.class)
-                .doOnNext(req -> { /* side effects if needed */ })
-                .flatMap(req -> ServerResponse.ok()
+        String key = idempotency.keyOf(request);
+        Mono<CreateTaskRequest> body = request.bodyToMono(CreateTaskRequest.class)
+                .switchIfEmpty(Mono.error(CREATE_REQUEST::missingBody))
+                .map(CREATE_REQUEST::validate);
+        if (key != null) {
+            return body.flatMap(req -> idempotency.execute(request, key,
+                    IdempotentExecutor.fingerprint("POST /api/tasks", req.description()),
+                    () -> createTask(req)));
+        }
+        return body.flatMap(this::createTask)
+                .flatMap(reply -> ServerResponse.status(reply.status())
+                        .location(reply.location())
                         .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(req))
-                ;
+                        .bodyValue(reply.body()));
+    }
+
+    private Mono<IdempotentExecutor.Reply> createTask(CreateTaskRequest req) {
+        if (acceptTaskUseCase.enabled()) {
+            return acceptTaskUseCase.accept(req.description())
+                    .map(TaskAcceptedResponse::pending)
+                    .map(accepted -> new IdempotentExecutor.Reply(
+                            HttpStatus.ACCEPTED, URI.create(accepted.statusUrl()), accepted));
+        }
+        return createTaskUseCase.create(req.description())
+                .map(TaskResponse::from)
+                .map(task -> new IdempotentExecutor.Reply(HttpStatus.CREATED, location(task), task));
+    }
+
+    /**
+     * Una tarea, con ETag fuerte. Si el {@code If-None-Match} coincide con la entrada en cache
+     * responde 304 sin leer el cuerpo ni ir a la base; si no está en cache, compara tras cargarla.
+     */
+    public Mono<ServerResponse> get(ServerRequest request) {
+        return Mono.defer(() -> {
+            UUID id = taskId(request);
+            String cached = readCache.etagIfPresent(id);
+            Mono<ServerResponse> notModified = cached == null ? Mono.empty() : request.checkNotModified(cached);
+            return notModified.switchIfEmpty(readCache.get(id)
+                    .flatMap(entry -> request.checkNotModified(entry.etag())
+                            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                                    .eTag(entry.etag())
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .bodyValue(entry.json())))));
+        });
+    }
+
+    /** Estado de un alta diferida: {@code PENDING}, {@code FAILED} o {@code PERSISTED}. */
+    public Mono<ServerResponse> status(ServerRequest request) {
+        return Mono.fromSupplier(() -> taskId(request))
+                .flatMap(id -> acceptTaskUseCase.status(id).map(status -> TaskAcceptedResponse.of(id, status)))
+                .flatMap(status -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(status));
+    }
+
+    static UUID taskId(ServerRequest request) {
+        try {
+            return UUID.fromString(request.pathVariable("id"));
+        } catch (IllegalArgumentException e) {
+            throw CustomBusinessException.shared(INVALID_INPUT);
+        }
+    }
+
+    private static URI location(TaskResponse task) {
+        return URI.create("/api/tasks/" + task.id());
     }
 
     public Mono<ServerResponse> ping(ServerRequest request) {
@@ -0,0 +1,91 @@
+package com.co.lab.hex.web.task;
+
+import com.co.lab.hex.model.task.TaskCursor;
+import com.co.lab.hex.usecase.task.ListTasksUseCase;
+import com.co.lab.hex.web.task.dto.TaskPageResponse;
+import com.co.lab.hex.web.task.dto.TaskResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lectura de tareas por keyset sobre {@code (createdAt, id)}.
+ *
+ * <ul>
+ *   <li>{@code GET /api/tasks?limit=&after=}: una página JSON; {@code next} (y {@code Link: rel="next"})
+ *       es el cursor de la siguiente.</li>
+ *   <li>Con {@code Accept: application/x-ndjson} o {@code text/event-stream}: todas las tareas
+ *       desde {@code after}, leídas de la base al ritmo que el cliente consume. En SSE cada evento
+ *       lleva su cursor como {@code id}, así que un {@code Last-Event-ID} retoma donde se cortó.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskQueryHandler {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    private static final ParameterizedTypeReference<ServerSentEvent<TaskResponse>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final ListTasksUseCase listTasksUseCase;
+
+    public Mono<ServerResponse> list(ServerRequest request) {
+        int limit = request.queryParam("limit").map(TaskQueryHandler::parseLimit)
+                .orElse(ListTasksUseCase.DEFAULT_PAGE_SIZE);
+        return Mono.defer(() -> listTasksUseCase.page(TaskCursors.decode(request.queryParam("after").orElse(null)), limit))
+                .flatMap(page -> {
+                    String next = page.next() == null ? null : TaskCursors.encode(page.next());
+                    var body = new TaskPageResponse(page.items().stream().map(TaskResponse::from).toList(), next);
+                    var response = ServerResponse.ok().contentType(MediaType.APPLICATION_JSON);
+                    if (next != null) response.header(HttpHeaders.LINK, nextLink(request, limit, next));
+                    return response.bodyValue(body);
+                });
+    }
+
+    public Mono<ServerResponse> streamNdjson(ServerRequest request) {
+        return Mono.defer(() -> {
+            TaskCursor after = TaskCursors.decode(request.queryParam("after").orElse(null));
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(listTasksUseCase.stream(after).map(TaskResponse::from), TaskResponse.class);
+        });
+    }
+
+    public Mono<ServerResponse> streamSse(ServerRequest request) {
+        return Mono.defer(() -> {
+            String lastEventId = request.headers().firstHeader(LAST_EVENT_ID);
+            TaskCursor after = TaskCursors.decode(lastEventId != null ? lastEventId : request.queryParam("after").orElse(null));
+            var events = listTasksUseCase.stream(after)
+                    .map(task -> ServerSentEvent.builder(TaskResponse.from(task))
+                            .id(TaskCursors.encode(TaskCursor.of(task)))
+                            .build());
+            return ServerResponse.ok()
+                    .contentType(MediaType.TEXT_EVENT_STREAM)
+                    .body(events, SSE_TYPE);
+        });
+    }
+
+    private static int parseLimit(String raw) {
+        try {
+            return Integer.parseInt(raw);
+        } catch (NumberFormatException e) {
+            return ListTasksUseCase.DEFAULT_PAGE_SIZE;
+        }
+    }
+
+    private static String nextLink(ServerRequest request, int limit, String next) {
+        String uri = UriComponentsBuilder.fromPath(request.path())
+                .queryParam("limit", limit)
+                .queryParam("after", next)
+                .build()
+                .toUriString();
+        return "<" + uri + ">; rel=\"next\"";
+    }
+}
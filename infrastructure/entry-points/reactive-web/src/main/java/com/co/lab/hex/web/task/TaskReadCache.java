@@ -0,0 +1,99 @@
+package com.co.lab.hex.web.task;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.usecase.task.GetTaskUseCase;
+import com.co.lab.hex.web.task.dto.TaskResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Lectura de una tarea por id a través de un cache local acotado por memoria (Caffeine, W-TinyLFU).
+ *
+ * <p>Cada entrada guarda el JSON ya serializado y su ETag fuerte (hash del JSON), calculados una
+ * vez cuando una lectura no encuentra la tarea en cache. Las altas no pasan por aquí: el primer
+ * {@code GET} de una tarea nueva va a la base. Misses concurrentes del mismo id comparten una sola
+ * consulta, y un "no existe" no se cachea.
+ *
+ * <p>{@link #etagIfPresent} no cuenta como acceso (ni hit ni recencia): es lo que usa el
+ * {@code If-None-Match} para responder 304 sin leer el cuerpo ni ir a la base.
+ */
+@Component
+@EnableConfigurationProperties(TaskReadCacheProperties.class)
+public class TaskReadCache {
+
+    /** Representación lista para enviar. */
+    public record Entry(byte[] json, String etag) {}
+
+    private final GetTaskUseCase getTaskUseCase;
+    private final ObjectMapper objectMapper;
+    private final AsyncCache<UUID, Entry> entries;
+
+    public TaskReadCache(GetTaskUseCase getTaskUseCase, ObjectMapper objectMapper,
+                         TaskReadCacheProperties props, MeterRegistry registry) {
+        this.getTaskUseCase = getTaskUseCase;
+        this.objectMapper = objectMapper;
+        if (!props.enabled()) {
+            this.entries = null;
+            return;
+        }
+        long overhead = props.entryOverhead().toBytes();
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(props.maxWeight().toBytes())
+                .weigher((UUID id, Entry e) -> (int) Math.min(Integer.MAX_VALUE, overhead + e.json().length))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(registry, entries, "tasks");
+        Gauge.builder("tasks.read_cache.hit_ratio", entries, c -> c.synchronous().stats().hitRate())
+                .description("Share of GET /api/tasks/{id} lookups answered from the cache")
+                .register(registry);
+    }
+
+    public Mono<Entry> get(UUID id) {
+        if (entries == null) return load(id);
+        return Mono.fromFuture(() -> entries.get(id, (key, executor) -> load(key).toFuture()), true);
+    }
+
+    /** ETag de la entrada si está en cache, sin tocar sus estadísticas ni su orden de desalojo. */
+    public String etagIfPresent(UUID id) {
+        if (entries == null) return null;
+        Entry entry = entries.synchronous().policy().getIfPresentQuietly(id);
+        return entry == null ? null : entry.etag();
+    }
+
+    private Mono<Entry> load(UUID id) {
+        return getTaskUseCase.byId(id).map(this::entry);
+    }
+
+    Entry entry(Task task) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(TaskResponse.from(task));
+            return new Entry(json, etag(json));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Fuerte: cambia con cualquier byte de la representación. 128 bits de SHA-256 en hex. */
+    static String etag(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
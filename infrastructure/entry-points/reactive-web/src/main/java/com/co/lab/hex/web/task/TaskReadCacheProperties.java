@@ -0,0 +1,19 @@
+package com.co.lab.hex.web.task;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Cache de {@code GET /api/tasks/{id}} ({@code entry-points.tasks.read-cache.*}).
+ *
+ * @param maxWeight     tope de memoria: cada entrada pesa su JSON más {@code entry-overhead}
+ * @param entryOverhead costo fijo estimado por entrada (clave, ETag, nodos del cache); con
+ *                      {@code max-weight} acota también la cantidad de entradas
+ */
+@ConfigurationProperties(prefix = "entry-points.tasks.read-cache")
+public record TaskReadCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("64MB") DataSize maxWeight,
+        @DefaultValue("256B") DataSize entryOverhead
+) {}
@@ -1,18 +1,50 @@
 package com.co.lab.hex.web.task;
 
+import com.co.lab.hex.web.idempotency.IdempotencyProperties;
+import com.co.lab.hex.web.ratelimit.ClientRateLimiter;
+import com.co.lab.hex.web.task.events.TaskEventHandler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RequestPredicates;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.RouterFunctions;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+
 @Configuration
+@EnableConfigurationProperties({TaskBulkProperties.class, IdempotencyProperties.class})
 public class TaskRouter {
     @Bean
-    RouterFunction<ServerResponse> routes(TaskHandler h) {
+    RouterFunction<ServerResponse> routes(TaskHandler h, TaskBulkHandler bulk, TaskQueryHandler query,
+                                          TaskEventHandler events, ClientRateLimiter rateLimit) {
         return RouterFunctions.route()
                 .GET("/ping", h::ping)
-                .POST("/api/tasks", h::create)
+                .add(RouterFunctions.route()
+                        .GET("/api/tasks", explicitlyAccepts(MediaType.APPLICATION_NDJSON), query::streamNdjson)
+                        .GET("/api/tasks", explicitlyAccepts(MediaType.TEXT_EVENT_STREAM), query::streamSse)
+                        .GET("/api/tasks", query::list)
+                        .GET("/api/tasks/events", explicitlyAccepts(MediaType.TEXT_EVENT_STREAM), events::streamSse)
+                        .GET("/api/tasks/events", events::streamNdjson)
+                        .POST("/api/tasks", h::create)
+                        .GET("/api/tasks/{id}/status", h::status)
+                        // Después de /api/tasks/events, que también encajaría en {id}.
+                        .GET("/api/tasks/{id}", h::get)
+                        .POST("/api/tasks:bulk", contentType(MediaType.APPLICATION_NDJSON), bulk::createBulk)
+                        .filter(rateLimit)
+                        .build())
                 .build();
     }
+
+    /**
+     * A diferencia de {@code RequestPredicates.accept}, no acepta {@code *}{@code /*}: un cliente
+     * genérico recibe la página JSON y solo quien pide el stream lo obtiene.
+     */
+    static RequestPredicate explicitlyAccepts(MediaType type) {
+        return RequestPredicates.headers(headers -> headers.accept().stream()
+                .anyMatch(accepted -> accepted.equalsTypeAndSubtype(type)));
+    }
 }
@@ -0,0 +1,22 @@
+package com.co.lab.hex.web.task.dto;
+
+import com.co.lab.hex.exceptions.error.ErrorMessage;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Resultado por línea de {@code POST /api/tasks:bulk}; {@code line} es 1-based sobre el cuerpo NDJSON. */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record BulkTaskResult(long line, Status status, UUID id, List<ErrorMessage> errors) {
+
+    public enum Status { CREATED, REJECTED }
+
+    public static BulkTaskResult created(long line, UUID id) {
+        return new BulkTaskResult(line, Status.CREATED, id, List.of());
+    }
+
+    public static BulkTaskResult rejected(long line, List<ErrorMessage> errors) {
+        return new BulkTaskResult(line, Status.REJECTED, null, errors);
+    }
+}
@@ -1,8 +1,11 @@
 package com.co.lab.hex.web.task.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
+/** Sin caracteres de control: Postgres no guarda NUL (U+0000) en un texto y rechazaría la fila. */
 public record CreateTaskRequest(
-        @NotBlank @Size(max = 120) String description
+        @NotBlank @Size(max = 120)
+        @Pattern(regexp = "[^\\p{Cntrl}]*", message = "must not contain control characters") String description
 ) {}
@@ -0,0 +1,22 @@
+package com.co.lab.hex.web.task.dto;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.TaskWriteStatus;
+
+import java.util.UUID;
+
+/** Respuesta del 202 con escritura diferida y de la consulta de estado. */
+public record TaskAcceptedResponse(UUID id, TaskWriteStatus status, String statusUrl) {
+
+    public static String statusUrl(UUID id) {
+        return "/api/tasks/" + id + "/status";
+    }
+
+    public static TaskAcceptedResponse pending(Task task) {
+        return of(task.id(), TaskWriteStatus.PENDING);
+    }
+
+    public static TaskAcceptedResponse of(UUID id, TaskWriteStatus status) {
+        return new TaskAcceptedResponse(id, status, statusUrl(id));
+    }
+}
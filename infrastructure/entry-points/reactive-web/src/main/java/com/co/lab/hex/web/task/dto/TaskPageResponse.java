@@ -0,0 +1,10 @@
+package com.co.lab.hex.web.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/** Página de {@code GET /api/tasks}; {@code next} se omite en la última. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskPageResponse(List<TaskResponse> items, String next) {
+}
@@ -0,0 +1,13 @@
+package com.co.lab.hex.web.task.dto;
+
+import com.co.lab.hex.model.task.Task;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record TaskResponse(UUID id, String description, Instant createdAt) {
+
+    public static TaskResponse from(Task task) {
+        return new TaskResponse(task.id(), task.description(), task.createdAt());
+    }
+}
@@ -0,0 +1,58 @@
+package com.co.lab.hex.web.task.events;
+
+import reactor.core.publisher.FluxSink;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Una conexión del feed: solo la próxima secuencia a enviar.
+ *
+ * <p>{@link #drain()} se llama al publicarse un evento y cuando la conexión pide más; el contador
+ * {@code wip} garantiza que un solo hilo drene a la vez sin bloquear a los demás (los llamados
+ * concurrentes solo piden otra vuelta).
+ */
+final class FeedSubscriber {
+
+    private final TaskEventBus bus;
+    private final FluxSink<TaskEventBus.Event> sink;
+    private final AtomicInteger wip = new AtomicInteger();
+    private long next;
+
+    FeedSubscriber(TaskEventBus bus, FluxSink<TaskEventBus.Event> sink, long next) {
+        this.bus = bus;
+        this.sink = sink;
+        this.next = next;
+    }
+
+    void drain() {
+        if (wip.getAndIncrement() != 0) return;
+        int missed = 1;
+        do {
+            if (!emit()) return;   // cerrado: wip queda tomado y no se vuelve a drenar
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /** Envía lo disponible hasta agotar la demanda; {@code false} si la conexión terminó. */
+    private boolean emit() {
+        while (!sink.isCancelled()) {
+            long last = bus.lastSequence();
+            if (last - next + 1 > bus.capacity()) {
+                if (bus.overflow() == TaskEventsProperties.Overflow.DISCONNECT) {
+                    bus.onDisconnected();
+                    sink.complete();
+                    return false;
+                }
+                long oldest = last - bus.capacity() + 1;
+                bus.onDropped(oldest - next);
+                next = oldest;
+            }
+            if (next > last || sink.requestedFromDownstream() == 0) return true;
+            TaskEventBus.Event event = bus.eventAt(next);
+            if (event == null) continue;   // la celda se reutilizó: el chequeo de atraso lo resuelve
+            sink.next(event);
+            next++;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,60 @@
+package com.co.lab.hex.web.task.events;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.gateways.TaskEventGateway;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link TaskEventGateway} local al nodo. Es el bus por defecto; con
+ * {@code adapters.r2dbc.task-notify.enabled=true} se usa LISTEN/NOTIFY de Postgres y cada nodo
+ * ve también las altas de los demás.
+ *
+ * <p>{@link #publish} no bloquea ni reparte: deja las tareas en una cola multi-productor y, si no
+ * hay un vaciado en curso, agenda uno en el hilo {@code task-events}. Ese único hilo es el que
+ * emite, así que el sink recibe las emisiones en serie sin ningún lock del lado de quien escribe.
+ */
+@Component
+@ConditionalOnProperty(prefix = "adapters.r2dbc.task-notify", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class InProcessTaskEvents implements TaskEventGateway, DisposableBean {
+
+    private final Queue<Task> pending = Queues.<Task>unboundedMultiproducer().get();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Scheduler emitter = Schedulers.newSingle("task-events", true);
+    private final Sinks.Many<Task> sink = Sinks.many().multicast().directBestEffort();
+
+    @Override
+    public void publish(List<Task> created) {
+        for (Task task : created) pending.offer(task);
+        if (wip.getAndIncrement() == 0) emitter.schedule(this::drain);
+    }
+
+    @Override
+    public Flux<Task> events() {
+        return sink.asFlux();
+    }
+
+    private void drain() {
+        int missed = 1;
+        do {
+            Task task;
+            while ((task = pending.poll()) != null) sink.tryEmitNext(task);
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    @Override
+    public void destroy() {
+        emitter.dispose();
+    }
+}
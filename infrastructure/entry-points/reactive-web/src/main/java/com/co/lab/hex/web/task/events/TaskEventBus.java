@@ -0,0 +1,212 @@
+package com.co.lab.hex.web.task.events;
+
+import com.co.lab.hex.exceptions.technical.CustomTechnicalException;
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.gateways.TaskEventGateway;
+import com.co.lab.hex.web.task.dto.TaskResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.co.lab.hex.exceptions.technical.TechnicalErrorMessages.SERVICE_OVERLOADED;
+
+/**
+ * Reparte las altas de {@link TaskEventGateway#events()} a los suscriptores de
+ * {@code GET /api/tasks/events}.
+ *
+ * <p>Cada alta recibe una secuencia y se serializa una sola vez (SSE y NDJSON) en un anillo de
+ * {@code buffer-size} eventos compartido por todos. Un suscriptor no copia eventos: guarda solo la
+ * próxima secuencia que le toca y lee del anillo a medida que su conexión pide más, así que la
+ * memoria por suscriptor es constante. El anillo es a la vez su buffer acotado (si se atrasa más
+ * que eso aplica {@code overflow}) y la ventana para retomar desde una secuencia.
+ *
+ * <p>Todo lo que escribe en el anillo corre en el hilo {@code task-feed}, nunca en el de quien
+ * confirmó el alta. Tampoco se despierta a los suscriptores por cada evento: una ráfaga de altas se
+ * escribe entera y después se agenda una sola pasada por las conexiones.
+ *
+ * <p>Las secuencias arrancan en el reloj del arranque (ms × 1000): crecen también entre reinicios,
+ * y una secuencia de una corrida anterior cae fuera de la ventana en lugar de confundirse con
+ * eventos nuevos.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(TaskEventsProperties.class)
+public class TaskEventBus implements DisposableBean {
+
+    static final String EVENT_TYPE = "task.created";
+
+    /** Evento ya serializado; el mismo arreglo se envía a todas las conexiones. */
+    public record Event(long sequence, byte[] sse, byte[] ndjson) {}
+
+    private final ObjectMapper objectMapper;
+    private final TaskEventsProperties.Overflow overflow;
+    private final int maxSubscribers;
+    private final AtomicReferenceArray<Event> ring;
+    private final int capacity;
+    private final long firstSequence;
+    private final Set<FeedSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Scheduler feed = Schedulers.newSingle("task-feed", true);
+    private final Flux<Long> heartbeats;
+    private final Counter dropped;
+    private final Counter disconnected;
+    private final Disposable upstream;
+
+    /** Última secuencia publicada; la escribe solo el hilo {@code task-feed}. */
+    private volatile long lastSequence;
+    /** Solo lo toca el hilo {@code task-feed}. */
+    private boolean wakeScheduled;
+
+    public TaskEventBus(TaskEventGateway taskEvents, ObjectMapper objectMapper, TaskEventsProperties props,
+                        MeterRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.overflow = props.overflow();
+        this.maxSubscribers = props.maxSubscribers();
+        this.capacity = Integer.highestOneBit(Math.max(2, props.bufferSize()) - 1) << 1;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.lastSequence = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        this.firstSequence = lastSequence + 1;
+        // Un solo temporizador para todas las conexiones.
+        this.heartbeats = Flux.interval(props.heartbeat()).share();
+
+        Gauge.builder("tasks.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open task change-feed connections")
+                .register(registry);
+        this.dropped = Counter.builder("tasks.events.dropped")
+                .description("Events skipped for subscribers that fell behind the buffer")
+                .register(registry);
+        this.disconnected = Counter.builder("tasks.events.disconnected")
+                .description("Subscribers closed for falling behind the buffer")
+                .register(registry);
+
+        this.upstream = taskEvents.events()
+                .onBackpressureBuffer()
+                .publishOn(feed)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(this::onCreated);
+    }
+
+    /**
+     * Eventos desde {@code after} (exclusive) si sigue en la ventana; si no, o si es {@code null},
+     * desde el próximo. Se emiten según la demanda de la conexión.
+     */
+    public Flux<Event> subscribe(Long after) {
+        return Flux.create(sink -> {
+            if (subscriberCount.incrementAndGet() > maxSubscribers) {
+                subscriberCount.decrementAndGet();
+                sink.error(CustomTechnicalException.shared(SERVICE_OVERLOADED));
+                return;
+            }
+            long last = lastSequence;
+            long next = after == null || after >= last ? last + 1 : Math.max(after + 1, oldestAvailable(last));
+            FeedSubscriber subscriber = new FeedSubscriber(this, sink, next);
+            subscribers.add(subscriber);
+            sink.onDispose(() -> {
+                subscribers.remove(subscriber);
+                subscriberCount.decrementAndGet();
+            });
+            sink.onRequest(n -> subscriber.drain());
+        }, FluxSink.OverflowStrategy.ERROR);
+    }
+
+    /**
+     * Heartbeat de una conexión. {@code share()} emite al ritmo del suscriptor más lento: sin el
+     * {@code onBackpressureDrop} por conexión, una que no lee frenaría los heartbeats de todas y
+     * terminaría cortándolas ({@code Flux.interval} falla si no le piden ticks). Así cada una pide
+     * sin límite al temporizador compartido y descarta los ticks que su conexión no alcanza a pedir.
+     */
+    Flux<Long> heartbeats() {
+        return heartbeats.onBackpressureDrop();
+    }
+
+    private void onCreated(Task task) {
+        long sequence = lastSequence + 1;
+        Event event;
+        try {
+            event = encode(sequence, task);
+        } catch (JsonProcessingException e) {
+            log.warn("Task event {} could not be serialized; skipped", task.id(), e);
+            return;
+        }
+        ring.set(index(sequence), event);
+        lastSequence = sequence;   // volatile: publica la celda a los lectores
+        if (!wakeScheduled) {
+            wakeScheduled = true;
+            feed.schedule(this::wakeSubscribers);   // corre después del resto de la ráfaga
+        }
+    }
+
+    private void wakeSubscribers() {
+        wakeScheduled = false;
+        for (FeedSubscriber s : subscribers) s.drain();
+    }
+
+    private Event encode(long sequence, Task task) throws JsonProcessingException {
+        String json = objectMapper.writeValueAsString(TaskResponse.from(task));
+        String sse = "id: " + sequence + "\nevent: " + EVENT_TYPE + "\ndata: " + json + "\n\n";
+        String ndjson = "{\"sequence\":" + sequence + ",\"type\":\"" + EVENT_TYPE + "\",\"task\":" + json + "}\n";
+        return new Event(sequence, sse.getBytes(StandardCharsets.UTF_8), ndjson.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // --- lectura desde FeedSubscriber ---
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    TaskEventsProperties.Overflow overflow() {
+        return overflow;
+    }
+
+    /** {@code null} si la celda ya se reutilizó para una secuencia posterior. */
+    Event eventAt(long sequence) {
+        Event e = ring.get(index(sequence));
+        return e != null && e.sequence() == sequence ? e : null;
+    }
+
+    void onDropped(long events) {
+        dropped.increment(events);
+    }
+
+    void onDisconnected() {
+        disconnected.increment();
+    }
+
+    private long oldestAvailable(long last) {
+        return Math.max(firstSequence, last - capacity + 1);
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & (capacity - 1));
+    }
+
+    @Override
+    public void destroy() {
+        upstream.dispose();
+        feed.dispose();
+    }
+}
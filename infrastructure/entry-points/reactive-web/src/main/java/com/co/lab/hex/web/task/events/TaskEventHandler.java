@@ -0,0 +1,74 @@
+package com.co.lab.hex.web.task.events;
+
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.INVALID_INPUT;
+
+/**
+ * {@code GET /api/tasks/events}: altas de tareas en vivo, en SSE ({@code Accept: text/event-stream})
+ * o NDJSON.
+ *
+ * <p>Cada evento lleva su secuencia ({@code id} en SSE, {@code sequence} en NDJSON); con
+ * {@code Last-Event-ID} o {@code ?after=} el stream retoma desde ahí si sigue dentro de
+ * {@code buffer-size}. Los bytes salen tal como los serializó {@link TaskEventBus}, sin pasar por
+ * los codecs.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskEventHandler {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    private static final byte[] SSE_HEARTBEAT = ":\n\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NDJSON_HEARTBEAT = "\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final TaskEventBus bus;
+
+    public Mono<ServerResponse> streamSse(ServerRequest request) {
+        return Mono.defer(() -> {
+            String lastEventId = request.headers().firstHeader(LAST_EVENT_ID);
+            Long after = parseSequence(lastEventId != null ? lastEventId : request.queryParam("after").orElse(null));
+            return stream(request, MediaType.TEXT_EVENT_STREAM, after, TaskEventBus.Event::sse, SSE_HEARTBEAT);
+        });
+    }
+
+    public Mono<ServerResponse> streamNdjson(ServerRequest request) {
+        return Mono.defer(() -> {
+            Long after = parseSequence(request.queryParam("after").orElse(null));
+            return stream(request, MediaType.APPLICATION_NDJSON, after, TaskEventBus.Event::ndjson, NDJSON_HEARTBEAT);
+        });
+    }
+
+    /** El heartbeat termina con los eventos: un suscriptor desconectado por atraso cierra la respuesta. */
+    private Mono<ServerResponse> stream(ServerRequest request, MediaType type, Long after,
+                                        Function<TaskEventBus.Event, byte[]> bytes, byte[] heartbeat) {
+        DataBufferFactory buffers = request.exchange().getResponse().bufferFactory();
+        Flux<DataBuffer> body = bus.subscribe(after).publish(events -> Flux.merge(
+                events.map(e -> buffers.wrap(bytes.apply(e))),
+                bus.heartbeats().takeUntilOther(events.then()).map(tick -> buffers.wrap(heartbeat))));
+        return ServerResponse.ok()
+                .contentType(type)
+                .body(BodyInserters.fromDataBuffers(body));
+    }
+
+    private static Long parseSequence(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+        try {
+            return Long.parseLong(raw.trim());
+        } catch (NumberFormatException e) {
+            throw CustomBusinessException.shared(INVALID_INPUT);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.co.lab.hex.web.task.events;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Feed de altas en {@code GET /api/tasks/events} ({@code entry-points.tasks.events.*}).
+ *
+ * @param bufferSize     eventos que un suscriptor puede quedar atrás (y ventana para retomar por
+ *                       secuencia); se redondea a potencia de 2
+ * @param overflow       qué hacer con un suscriptor que se atrasa más que eso
+ * @param heartbeat      comentario SSE / línea vacía para que proxies no corten la conexión ociosa
+ * @param maxSubscribers conexiones abiertas por nodo; por encima se responde 503
+ */
+@ConfigurationProperties(prefix = "entry-points.tasks.events")
+public record TaskEventsProperties(
+        @DefaultValue("1024") int bufferSize,
+        @DefaultValue("DROP_OLDEST") Overflow overflow,
+        @DefaultValue("15s") Duration heartbeat,
+        @DefaultValue("10000") int maxSubscribers
+) {
+
+    public enum Overflow {
+        /** Salta a los últimos {@code buffer-size} eventos; los saltados se cuentan como descartados. */
+        DROP_OLDEST,
+        /** Cierra el stream; el cliente reconecta con su última secuencia y retoma si sigue en la ventana. */
+        DISCONNECT
+    }
+}
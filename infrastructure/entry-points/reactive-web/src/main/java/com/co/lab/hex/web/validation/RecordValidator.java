@@ -0,0 +1,343 @@
+package com.co.lab.hex.web.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.beans.Introspector;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Validación de un record de entrada compilada una sola vez a partir de sus anotaciones
+ * de Jakarta Validation.
+ *
+ * <p>{@link #compile(Class)} lee las restricciones de cada componente y las convierte en
+ * reglas ya resueltas (mensaje interpolado, regex compilada, límites como primitivos); validar
+ * es recorrer esas reglas sin reflexión, sin interpolar mensajes y sin asignar nada si el
+ * objeto es válido. Solo se soportan las restricciones listadas en {@link #compileRule}: una
+ * restricción desconocida, con grupos o un {@code @Valid} anidado falla al compilar en lugar
+ * de ignorarse en silencio.
+ *
+ * <p>Los errores salen como {@link WebExchangeBindException}, que {@code ProblemDetailsMapper}
+ * ya renderiza como {@code VALIDATION_ERROR} con {@code errors[].field/message}.
+ */
+public final class RecordValidator<T extends Record> {
+
+    /** Violación de una restricción; {@code code} es el nombre simple de la anotación. */
+    public record Violation(String field, String code, String message, Object rejectedValue) {}
+
+    public static final String MISSING_BODY = "Request body is required";
+    private static final MethodParameter TARGET = targetParameter();
+
+    private final Class<T> type;
+    private final String objectName;
+    private final ComponentRules[] components;
+
+    private RecordValidator(Class<T> type, ComponentRules[] components) {
+        this.type = type;
+        this.objectName = Introspector.decapitalize(type.getSimpleName());
+        this.components = components;
+    }
+
+    public static <T extends Record> RecordValidator<T> compile(Class<T> type) {
+        if (!type.isRecord()) throw new IllegalArgumentException(type.getName() + " is not a record");
+        for (Annotation a : type.getAnnotations()) {
+            if (isConstraint(a.annotationType())) {
+                throw unsupported(type, null, "class-level constraint @" + a.annotationType().getSimpleName());
+            }
+        }
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access record " + type.getName(), e);
+        }
+        List<ComponentRules> compiled = new ArrayList<>();
+        for (RecordComponent rc : type.getRecordComponents()) {
+            List<Rule> rules = new ArrayList<>();
+            for (Annotation a : constraintsOf(type, rc)) {
+                rules.add(compileRule(type, rc, a));
+            }
+            if (rules.isEmpty()) continue;
+            MethodHandle getter;
+            try {
+                getter = lookup.unreflect(rc.getAccessor())
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access " + type.getName() + "." + rc.getName(), e);
+            }
+            compiled.add(new ComponentRules(rc.getName(), getter, rules.toArray(Rule[]::new)));
+        }
+        return new RecordValidator<>(type, compiled.toArray(ComponentRules[]::new));
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    /** Todas las violaciones de {@code target}; lista vacía (compartida) si es válido. */
+    public List<Violation> violations(T target) {
+        List<Violation> out = null;
+        for (ComponentRules c : components) {
+            Object value = c.read(target);
+            for (Rule r : c.rules) {
+                if (r.test.test(value)) continue;
+                if (out == null) out = new ArrayList<>(2);
+                out.add(new Violation(c.name, r.code, r.message, value));
+            }
+        }
+        return out == null ? List.of() : out;
+    }
+
+    /**
+     * Devuelve {@code target} si es válido; si no, lanza {@link WebExchangeBindException}.
+     * Pensado para {@code bodyToMono(..).map(validator::validate)}.
+     */
+    public T validate(T target) {
+        List<Violation> violations = violations(target);
+        if (violations.isEmpty()) return target;
+        throw bindException(target, violations);
+    }
+
+    /**
+     * Cuerpo ausente: vacío o el literal JSON {@code null}, que {@code bodyToMono} entrega como
+     * Mono vacío. Es un error global de validación, como cualquier otro 400 de este validador.
+     * Pensado para {@code .switchIfEmpty(Mono.error(validator::missingBody))}.
+     */
+    public WebExchangeBindException missingBody() {
+        var binding = new BeanPropertyBindingResult(null, objectName);
+        binding.addError(new ObjectError(objectName, new String[]{"NotNull." + objectName, "NotNull"},
+                null, MISSING_BODY));
+        return new WebExchangeBindException(TARGET, binding);
+    }
+
+    private WebExchangeBindException bindException(T target, List<Violation> violations) {
+        var binding = new BeanPropertyBindingResult(target, objectName);
+        for (Violation v : violations) {
+            binding.addError(new FieldError(objectName, v.field(), v.rejectedValue(), false,
+                    new String[]{v.code() + "." + objectName + "." + v.field(), v.code()},
+                    null, v.message()));
+        }
+        return new WebExchangeBindException(TARGET, binding);
+    }
+
+    // --- compilación ---
+
+    private static List<Annotation> constraintsOf(Class<?> type, RecordComponent rc) {
+        // Las anotaciones del componente se propagan al campo y al accessor según su @Target;
+        // las de Jakarta no declaran RECORD_COMPONENT, así que se leen de ahí.
+        Map<Class<?>, Annotation> found = new LinkedHashMap<>();
+        try {
+            collect(type.getDeclaredField(rc.getName()).getAnnotations(), found);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+        collect(rc.getAccessor().getAnnotations(), found);
+        if (found.containsKey(Valid.class)) throw unsupported(type, rc, "nested @Valid");
+        return new ArrayList<>(found.values());
+    }
+
+    private static void collect(Annotation[] annotations, Map<Class<?>, Annotation> found) {
+        for (Annotation a : annotations) {
+            Class<? extends Annotation> at = a.annotationType();
+            if (at == Valid.class || isConstraint(at)) {
+                found.putIfAbsent(at, a);
+                continue;
+            }
+            // Contenedor de repetibles (@Size.List, ...): se expande.
+            Annotation[] repeated = repeatedConstraints(a);
+            for (Annotation r : repeated) found.putIfAbsent(r.annotationType(), r);
+        }
+    }
+
+    private static Annotation[] repeatedConstraints(Annotation container) {
+        try {
+            Method value = container.annotationType().getMethod("value");
+            Class<?> rt = value.getReturnType();
+            if (rt.isArray() && rt.getComponentType().isAnnotation()
+                    && isConstraint(rt.getComponentType())) {
+                Annotation[] values = (Annotation[]) value.invoke(container);
+                if (values.length > 1) {
+                    throw new IllegalStateException("Repeated @" + rt.getComponentType().getSimpleName()
+                            + " is not supported by RecordValidator");
+                }
+                return values;
+            }
+        } catch (NoSuchMethodException e) {
+            // no es un contenedor
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        return new Annotation[0];
+    }
+
+    private static boolean isConstraint(Class<?> annotationType) {
+        return annotationType.isAnnotationPresent(Constraint.class);
+    }
+
+    private static Rule compileRule(Class<?> type, RecordComponent rc, Annotation a) {
+        if (hasGroups(a)) throw unsupported(type, rc, "validation groups on @" + a.annotationType().getSimpleName());
+        if (a instanceof NotNull nn) {
+            return new Rule("NotNull", message(nn.message(), "must not be null"), v -> v != null);
+        }
+        if (a instanceof NotBlank nb) {
+            requireType(type, rc, a, CharSequence.class);
+            return new Rule("NotBlank", message(nb.message(), "must not be blank"),
+                    v -> v != null && !isBlank((CharSequence) v));
+        }
+        if (a instanceof NotEmpty ne) {
+            ToIntFunction<Object> size = sizeOf(type, rc, a);
+            return new Rule("NotEmpty", message(ne.message(), "must not be empty"),
+                    v -> v != null && size.applyAsInt(v) > 0);
+        }
+        if (a instanceof Size s) {
+            ToIntFunction<Object> size = sizeOf(type, rc, a);
+            int min = s.min();
+            int max = s.max();
+            String msg = message(s.message(), "size must be between {min} and {max}")
+                    .replace("{min}", String.valueOf(min)).replace("{max}", String.valueOf(max));
+            return new Rule("Size", msg, v -> {
+                if (v == null) return true;
+                int n = size.applyAsInt(v);
+                return n >= min && n <= max;
+            });
+        }
+        if (a instanceof Min m) {
+            requireIntegral(type, rc, a);
+            long bound = m.value();
+            String msg = message(m.message(), "must be greater than or equal to {value}")
+                    .replace("{value}", String.valueOf(bound));
+            return new Rule("Min", msg, v -> v == null || compare((Number) v, bound) >= 0);
+        }
+        if (a instanceof Max m) {
+            requireIntegral(type, rc, a);
+            long bound = m.value();
+            String msg = message(m.message(), "must be less than or equal to {value}")
+                    .replace("{value}", String.valueOf(bound));
+            return new Rule("Max", msg, v -> v == null || compare((Number) v, bound) <= 0);
+        }
+        if (a instanceof Positive p) {
+            requireIntegral(type, rc, a);
+            return new Rule("Positive", message(p.message(), "must be greater than 0"),
+                    v -> v == null || compare((Number) v, 0) > 0);
+        }
+        if (a instanceof PositiveOrZero p) {
+            requireIntegral(type, rc, a);
+            return new Rule("PositiveOrZero", message(p.message(), "must be greater than or equal to 0"),
+                    v -> v == null || compare((Number) v, 0) >= 0);
+        }
+        if (a instanceof Pattern p) {
+            requireType(type, rc, a, CharSequence.class);
+            int flags = 0;
+            for (Pattern.Flag f : p.flags()) flags |= f.getValue();
+            java.util.regex.Pattern regex = java.util.regex.Pattern.compile(p.regexp(), flags);
+            String msg = message(p.message(), "must match \"{regexp}\"").replace("{regexp}", p.regexp());
+            return new Rule("Pattern", msg, v -> v == null || regex.matcher((CharSequence) v).matches());
+        }
+        throw unsupported(type, rc, "@" + a.annotationType().getSimpleName());
+    }
+
+    private static boolean hasGroups(Annotation a) {
+        try {
+            return ((Class<?>[]) a.annotationType().getMethod("groups").invoke(a)).length > 0;
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /** Mensaje por defecto si la anotación trae la clave de Jakarta; si no, el literal declarado. */
+    private static String message(String declared, String fallback) {
+        return declared.startsWith("{jakarta.validation.constraints.") ? fallback : declared;
+    }
+
+    private static ToIntFunction<Object> sizeOf(Class<?> type, RecordComponent rc, Annotation a) {
+        Class<?> vt = rc.getType();
+        if (CharSequence.class.isAssignableFrom(vt)) return v -> ((CharSequence) v).length();
+        if (Collection.class.isAssignableFrom(vt)) return v -> ((Collection<?>) v).size();
+        if (Map.class.isAssignableFrom(vt)) return v -> ((Map<?, ?>) v).size();
+        if (vt.isArray()) return Array::getLength;
+        throw unsupported(type, rc, "@" + a.annotationType().getSimpleName() + " on " + vt.getSimpleName());
+    }
+
+    private static void requireType(Class<?> type, RecordComponent rc, Annotation a, Class<?> expected) {
+        if (!expected.isAssignableFrom(rc.getType())) {
+            throw unsupported(type, rc, "@" + a.annotationType().getSimpleName() + " on " + rc.getType().getSimpleName());
+        }
+    }
+
+    /** Como la especificación, {@code double}/{@code float} quedan fuera por el redondeo. */
+    private static void requireIntegral(Class<?> type, RecordComponent rc, Annotation a) {
+        Class<?> vt = rc.getType();
+        boolean ok = vt == int.class || vt == long.class || vt == short.class || vt == byte.class
+                || vt == Integer.class || vt == Long.class || vt == Short.class || vt == Byte.class
+                || vt == BigInteger.class || vt == BigDecimal.class;
+        if (!ok) throw unsupported(type, rc, "@" + a.annotationType().getSimpleName() + " on " + vt.getSimpleName());
+    }
+
+    private static int compare(Number n, long bound) {
+        if (n instanceof BigDecimal bd) return bd.compareTo(BigDecimal.valueOf(bound));
+        if (n instanceof BigInteger bi) return bi.compareTo(BigInteger.valueOf(bound));
+        return Long.compare(n.longValue(), bound);
+    }
+
+    /** Mismo criterio que Hibernate Validator ({@code trim().length() > 0}) sin copiar la cadena. */
+    private static boolean isBlank(CharSequence cs) {
+        for (int i = 0, n = cs.length(); i < n; i++) {
+            if (cs.charAt(i) > ' ') return false;
+        }
+        return true;
+    }
+
+    private static IllegalStateException unsupported(Class<?> type, RecordComponent rc, String what) {
+        String where = rc == null ? type.getName() : type.getName() + "." + rc.getName();
+        return new IllegalStateException(where + ": " + what + " is not supported by RecordValidator");
+    }
+
+    private static MethodParameter targetParameter() {
+        try {
+            return new MethodParameter(RecordValidator.class.getMethod("validate", Record.class), 0);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Rule(String code, String message, Predicate<Object> test) {}
+
+    private record ComponentRules(String name, MethodHandle getter, Rule[] rules) {
+        Object read(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Cannot read " + name, t);
+            }
+        }
+    }
+}
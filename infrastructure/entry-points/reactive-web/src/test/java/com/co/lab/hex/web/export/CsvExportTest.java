@@ -0,0 +1,72 @@
+package com.co.lab.hex.web.export;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exportación de varios GB con un consumidor lento. El test corre con un heap chico
+ * ({@code maxHeapSize} de la tarea {@code test}): si {@link CsvExport} acumulara filas o bloques
+ * no llegaría al final, y además se comprueba que lo producido nunca adelanta a lo consumido en
+ * más de unos pocos bloques.
+ */
+class CsvExportTest {
+
+    private static final String PAD = "x".repeat(64);
+    /** UUID (36) + coma + PAD (64) + CRLF. */
+    private static final int ROW_BYTES = 36 + 1 + PAD.length() + 2;
+    private static final long TOTAL_BYTES = 3L * 1024 * 1024 * 1024;
+    private static final long ROWS = TOTAL_BYTES / ROW_BYTES;
+    private static final List<String> HEADER = List.of("id", "payload");
+    private static final int HEADER_BYTES = "id,payload\r\n".length();
+
+    @Test
+    void multiGigabyteExportToSlowConsumerKeepsMemoryBounded() {
+        AtomicLong producedRows = new AtomicLong();
+        AtomicLong consumedBytes = new AtomicLong();
+        AtomicLong maxAhead = new AtomicLong();
+        AtomicLong chunks = new AtomicLong();
+        Scheduler producer = Schedulers.newSingle("csv-producer");
+        Scheduler consumer = Schedulers.newSingle("csv-consumer");
+        try {
+            Flux<Long> rows = Flux.<Long, Long>generate(() -> 0L, (i, sink) -> {
+                        if (i == ROWS) sink.complete();
+                        else sink.next(i);
+                        return i + 1;
+                    })
+                    .doOnNext(i -> producedRows.incrementAndGet())
+                    .subscribeOn(producer);
+
+            CsvExport.<Long>encode(rows, HEADER, (csv, i) -> csv.uuid(new UUID(i, ~i)).text(PAD),
+                            DefaultDataBufferFactory.sharedInstance)
+                    .publishOn(consumer, 1)
+                    .doOnNext(buffer -> {
+                        long consumed = consumedBytes.addAndGet(buffer.readableByteCount());
+                        long produced = HEADER_BYTES + producedRows.get() * ROW_BYTES;
+                        maxAhead.accumulateAndGet(produced - consumed, Math::max);
+                        DataBufferUtils.release(buffer);
+                        // Cliente lento: cada 64 bloques (~2 MB) se frena 1 ms.
+                        if (chunks.incrementAndGet() % 64 == 0) LockSupport.parkNanos(1_000_000);
+                    })
+                    .blockLast();
+        } finally {
+            producer.dispose();
+            consumer.dispose();
+        }
+
+        assertThat(producedRows.get()).isEqualTo(ROWS);
+        assertThat(consumedBytes.get()).isEqualTo(HEADER_BYTES + ROWS * ROW_BYTES);
+        // Un bloque en el consumidor, uno en la cola de publishOn y uno a medio armar.
+        assertThat(maxAhead.get()).isLessThanOrEqualTo(4L * CsvExport.CHUNK_BYTES);
+    }
+}
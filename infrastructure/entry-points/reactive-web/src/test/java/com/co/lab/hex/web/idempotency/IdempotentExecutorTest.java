@@ -0,0 +1,121 @@
+package com.co.lab.hex.web.idempotency;
+
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.web.ratelimit.ClientIdentity;
+import com.co.lab.hex.web.ratelimit.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.EntityResponse;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.IDEMPOTENCY_KEY_REUSED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotentExecutorTest {
+
+    private static final String FINGERPRINT = IdempotentExecutor.fingerprint("POST /api/tasks", "a");
+
+    private final IdempotencyProperties props = new IdempotencyProperties(true, Duration.ofHours(1), 1000);
+    private final IdempotentExecutor executor = new IdempotentExecutor(
+            new InMemoryIdempotencyStore(props),
+            new ClientIdentity(new RateLimitProperties(true, 100, 50, "X-Api-Key", 16, 64, 1000, Duration.ofMinutes(10))),
+            new ObjectMapper(), props);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void concurrentRequestsWithTheSameKeyRunOnce() {
+        Sinks.One<IdempotentExecutor.Reply> reply = Sinks.one();
+        Supplier<Mono<IdempotentExecutor.Reply>> action = () -> {
+            executions.incrementAndGet();
+            return reply.asMono();
+        };
+        Mono<ServerResponse> first = executor.execute(request("10.0.0.1"), "k1", FINGERPRINT, action).cache();
+        Mono<ServerResponse> second = executor.execute(request("10.0.0.1"), "k1", FINGERPRINT, action).cache();
+        first.subscribe();
+        second.subscribe();
+
+        reply.tryEmitValue(created("t1"));
+
+        assertThat(executions).hasValue(1);
+        assertThat(body(first.block())).isEqualTo(body(second.block()));
+        assertThat(replayed(first.block())).isFalse();
+        assertThat(replayed(second.block())).isTrue();
+    }
+
+    @Test
+    void completedResponseIsReplayed() {
+        ServerResponse original = executor.execute(request("10.0.0.1"), "k1", FINGERPRINT, createTask("t1")).block();
+        ServerResponse retry = executor.execute(request("10.0.0.1"), "k1", FINGERPRINT, createTask("t2")).block();
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.statusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.headers().getLocation()).isEqualTo(original.headers().getLocation());
+        assertThat(body(retry)).isEqualTo(body(original));
+        assertThat(replayed(retry)).isTrue();
+    }
+
+    @Test
+    void sameKeyWithAnotherPayloadIsAConflict() {
+        executor.execute(request("10.0.0.1"), "k1", FINGERPRINT, createTask("t1")).block();
+
+        StepVerifier.create(executor.execute(request("10.0.0.1"), "k1",
+                        IdempotentExecutor.fingerprint("POST /api/tasks", "b"), createTask("t2")))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(CustomBusinessException.class)
+                        .extracting(ex -> ((CustomBusinessException) ex).getCode())
+                        .isEqualTo(IDEMPOTENCY_KEY_REUSED.getCode()))
+                .verify();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void sameKeyFromAnotherClientIsNotShared() {
+        ServerResponse mine = executor.execute(request("10.0.0.1"), "k1", FINGERPRINT, createTask("t1")).block();
+        ServerResponse theirs = executor.execute(request("10.0.0.2"), "k1", FINGERPRINT, createTask("t2")).block();
+
+        assertThat(executions).hasValue(2);
+        assertThat(replayed(theirs)).isFalse();
+        assertThat(theirs.headers().getLocation()).isNotEqualTo(mine.headers().getLocation());
+    }
+
+    private Supplier<Mono<IdempotentExecutor.Reply>> createTask(String id) {
+        return () -> {
+            executions.incrementAndGet();
+            return Mono.just(created(id));
+        };
+    }
+
+    private static IdempotentExecutor.Reply created(String id) {
+        return new IdempotentExecutor.Reply(HttpStatus.CREATED, URI.create("/api/tasks/" + id), Map.of("id", id));
+    }
+
+    private static ServerRequest request(String address) {
+        return MockServerRequest.builder()
+                .exchange(MockServerWebExchange.from(MockServerHttpRequest.post("/api/tasks")))
+                .remoteAddress(new InetSocketAddress(address, 40000))
+                .build();
+    }
+
+    private static Object body(ServerResponse response) {
+        return ((EntityResponse<?>) response).entity();
+    }
+
+    private static boolean replayed(ServerResponse response) {
+        return "true".equals(response.headers().getFirst(IdempotentExecutor.REPLAYED_HEADER));
+    }
+}
@@ -0,0 +1,55 @@
+package com.co.lab.hex.web.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIdentityTest {
+
+    private final ClientIdentity identity = new ClientIdentity(
+            new RateLimitProperties(true, 100, 50, "X-Api-Key", 2, 64, 1000, Duration.ofMinutes(10)));
+
+    @Test
+    void withoutApiKeyTheClientIsTheRemoteAddress() {
+        assertThat(identity.of(request("10.0.0.1", null))).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    void apiKeyIsScopedToTheAddress() {
+        assertThat(identity.of(request("10.0.0.1", "k1"))).isEqualTo("10.0.0.1 k1");
+        assertThat(identity.of(request("10.0.0.2", "k1"))).isEqualTo("10.0.0.2 k1");
+    }
+
+    @Test
+    void randomKeysFromOneAddressFallBackToTheAddress() {
+        assertThat(identity.of(request("10.0.0.1", "k1"))).isEqualTo("10.0.0.1 k1");
+        assertThat(identity.of(request("10.0.0.1", "k2"))).isEqualTo("10.0.0.1 k2");
+
+        assertThat(identity.of(request("10.0.0.1", "k3"))).isEqualTo("10.0.0.1");
+        assertThat(identity.of(request("10.0.0.1", "k4"))).isEqualTo("10.0.0.1");
+        assertThat(identity.of(request("10.0.0.1", "k1"))).isEqualTo("10.0.0.1 k1");
+    }
+
+    @Test
+    void authenticatedClientWins() {
+        ServerRequest request = request("10.0.0.1", "k1");
+        request.exchange().getAttributes().put(ClientIdentity.AUTHENTICATED_CLIENT, "acme");
+
+        assertThat(identity.of(request)).isEqualTo("auth:acme");
+    }
+
+    private static ServerRequest request(String address, String apiKey) {
+        var builder = MockServerRequest.builder()
+                .exchange(MockServerWebExchange.from(MockServerHttpRequest.get("/api/tasks")))
+                .remoteAddress(new InetSocketAddress(address, 40000));
+        if (apiKey != null) builder.header("X-Api-Key", apiKey);
+        return builder.build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.co.lab.hex.web.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketStoreTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void newClientGetsExactlyItsBurst() {
+        // Una ficha por segundo: durante la prueba no se repone nada.
+        var store = new TokenBucketStore(10, 1, 4, 1000, MINUTE);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(store.tryAcquire("a")).isEqualTo(TokenBucketStore.GRANTED);
+        }
+        assertThat(store.tryAcquire("a")).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(store.tryAcquire("b")).isEqualTo(TokenBucketStore.GRANTED);
+    }
+
+    @Test
+    void emptyBucketRefillsAtTheConfiguredRate() throws InterruptedException {
+        var store = new TokenBucketStore(1, 10, 4, 1000, MINUTE);
+
+        assertThat(store.tryAcquire("a")).isEqualTo(TokenBucketStore.GRANTED);
+        long wait = store.tryAcquire("a");
+        assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(wait) + 20);
+        assertThat(store.tryAcquire("a")).isEqualTo(TokenBucketStore.GRANTED);
+    }
+
+    @Test
+    void periodicSweepDropsIdleBuckets() throws InterruptedException {
+        // idle-ttl menor que el tiempo de reponer el bucket se sube a ese tiempo (1 ms).
+        var store = new TokenBucketStore(1, 1000, 4, 1000, 1);
+        store.tryAcquire("a");
+        store.tryAcquire("b");
+        assertThat(store.clients()).isEqualTo(2);
+
+        Thread.sleep(20);
+        int evicted = 0;
+        for (int i = 0; i < store.stripeCount(); i++) evicted += store.evictIdle();
+
+        assertThat(evicted).isEqualTo(2);
+        assertThat(store.clients()).isZero();
+    }
+
+    @Test
+    void fullStripeAdmitsNewClientsByDroppingRefilledBuckets() throws InterruptedException {
+        // Dos stripes de un cliente cada uno; cada bucket se repone en 1 ms.
+        var store = new TokenBucketStore(1, 1000, 2, 2, MINUTE);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(store.tryAcquire("client-" + i)).isEqualTo(TokenBucketStore.GRANTED);
+            Thread.sleep(110);   // más que el intervalo mínimo entre barridos de un stripe
+        }
+
+        assertThat(store.overflowed()).isZero();
+        assertThat(store.evictedOnAdmission()).isPositive();
+        assertThat(store.clients()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void clientsBeyondMaxShareTheOverflowBucket() {
+        // Nadie se repone durante la prueba: no hay bucket que desplazar.
+        var store = new TokenBucketStore(1, 1, 2, 2, MINUTE);
+
+        for (int i = 0; i < 3; i++) store.tryAcquire("client-" + i);
+
+        assertThat(store.overflowed()).isPositive();
+        assertThat(store.evictedOnAdmission()).isZero();
+    }
+}
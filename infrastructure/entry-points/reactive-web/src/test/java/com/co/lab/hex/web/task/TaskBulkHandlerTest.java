@@ -0,0 +1,82 @@
+package com.co.lab.hex.web.task;
+
+import com.co.lab.hex.exceptions.business.CustomBusinessException;
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.usecase.task.CreateTaskUseCase;
+import com.co.lab.hex.web.validation.RecordValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.result.view.ViewResolver;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static com.co.lab.hex.exceptions.business.BusinessErrorMessages.DATA_REJECTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskBulkHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CreateTaskUseCase createTaskUseCase = mock(CreateTaskUseCase.class);
+    private final TaskBulkHandler handler =
+            new TaskBulkHandler(createTaskUseCase, objectMapper, new TaskBulkProperties(500));
+
+    @Test
+    void nullLineIsRejectedWithoutStoppingTheStream() throws Exception {
+        when(createTaskUseCase.createAll(anyList())).thenAnswer(inv ->
+                Flux.fromIterable(inv.<List<String>>getArgument(0)).map(Task::newTask));
+        var request = MockServerRequest.builder().body(Flux.just("null", "{\"description\":\"ok\"}"));
+
+        List<JsonNode> results = render(handler.createBulk(request).block());
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).get("line").asLong()).isEqualTo(1);
+        assertThat(results.get(0).get("status").asText()).isEqualTo("REJECTED");
+        assertThat(results.get(0).get("errors").get(0).get("message").asText()).isEqualTo(RecordValidator.MISSING_BODY);
+        assertThat(results.get(1).get("line").asLong()).isEqualTo(2);
+        assertThat(results.get(1).get("status").asText()).isEqualTo("CREATED");
+    }
+
+    @Test
+    void lineRejectedByTheDatabaseDoesNotRejectItsChunk() throws Exception {
+        when(createTaskUseCase.createAll(anyList())).thenAnswer(inv -> {
+            List<String> descriptions = inv.getArgument(0);
+            if (descriptions.contains("poison")) return Flux.error(CustomBusinessException.shared(DATA_REJECTED));
+            return Flux.fromIterable(descriptions).map(Task::newTask);
+        });
+        var request = MockServerRequest.builder().body(Flux.just(
+                "{\"description\":\"a\"}", "{\"description\":\"poison\"}",
+                "{\"description\":\"b\"}", "{\"description\":\"c\"}"));
+
+        List<JsonNode> results = render(handler.createBulk(request).block());
+
+        assertThat(results).extracting(r -> r.get("line").asLong()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(results).extracting(r -> r.get("status").asText())
+                .containsExactly("CREATED", "REJECTED", "CREATED", "CREATED");
+        assertThat(results.get(1).get("errors").get(0).get("code").asText()).isEqualTo(DATA_REJECTED.getCode());
+    }
+
+    private List<JsonNode> render(ServerResponse response) throws Exception {
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/tasks:bulk"));
+        response.writeTo(exchange, new ServerResponse.Context() {
+            @Override public List<HttpMessageWriter<?>> messageWriters() {
+                return HandlerStrategies.withDefaults().messageWriters();
+            }
+            @Override public List<ViewResolver> viewResolvers() {
+                return List.of();
+            }
+        }).block();
+        String body = exchange.getResponse().getBodyAsString().block();
+        return objectMapper.readerFor(JsonNode.class).<JsonNode>readValues(body).readAll();
+    }
+}
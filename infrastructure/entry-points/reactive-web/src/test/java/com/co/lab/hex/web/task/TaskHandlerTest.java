@@ -0,0 +1,66 @@
+package com.co.lab.hex.web.task;
+
+import com.co.lab.hex.usecase.task.AcceptTaskUseCase;
+import com.co.lab.hex.usecase.task.CreateTaskUseCase;
+import com.co.lab.hex.web.idempotency.IdempotentExecutor;
+import com.co.lab.hex.web.task.dto.CreateTaskRequest;
+import com.co.lab.hex.web.validation.RecordValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TaskHandlerTest {
+
+    private final CreateTaskUseCase createTaskUseCase = mock(CreateTaskUseCase.class);
+    private final IdempotentExecutor idempotency = mock(IdempotentExecutor.class);
+    private final TaskHandler handler = new TaskHandler(createTaskUseCase, mock(AcceptTaskUseCase.class),
+            idempotency, mock(TaskReadCache.class));
+
+    @Test
+    void emptyBodyIsAValidationError() {
+        var request = MockServerRequest.builder().body(Mono.<CreateTaskRequest>empty());
+
+        StepVerifier.create(handler.create(request))
+                .expectErrorSatisfies(e -> {
+                    assertThat(e).isInstanceOf(WebExchangeBindException.class);
+                    var bind = (WebExchangeBindException) e;
+                    assertThat(bind.getGlobalErrors()).singleElement()
+                            .satisfies(g -> assertThat(g.getDefaultMessage()).isEqualTo(RecordValidator.MISSING_BODY));
+                })
+                .verify();
+        verifyNoInteractions(createTaskUseCase);
+    }
+
+    @Test
+    void emptyBodyWithIdempotencyKeyIsAValidationError() {
+        when(idempotency.keyOf(any())).thenReturn("key-1");
+        var request = MockServerRequest.builder().body(Mono.<CreateTaskRequest>empty());
+
+        StepVerifier.create(handler.create(request))
+                .expectError(WebExchangeBindException.class)
+                .verify();
+        verifyNoInteractions(createTaskUseCase);
+    }
+
+    @Test
+    void controlCharactersInDescriptionAreAValidationError() {
+        var request = MockServerRequest.builder().body(Mono.just(new CreateTaskRequest("a" + (char) 0 + "b")));
+
+        StepVerifier.create(handler.create(request))
+                .expectErrorSatisfies(e -> {
+                    assertThat(e).isInstanceOf(WebExchangeBindException.class);
+                    assertThat(((WebExchangeBindException) e).getFieldErrors()).singleElement()
+                            .satisfies(f -> assertThat(f.getCode()).isEqualTo("Pattern"));
+                })
+                .verify();
+        verifyNoInteractions(createTaskUseCase);
+    }
+}
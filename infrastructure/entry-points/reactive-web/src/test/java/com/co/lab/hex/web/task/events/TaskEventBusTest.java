@@ -0,0 +1,67 @@
+package com.co.lab.hex.web.task.events;
+
+import com.co.lab.hex.model.task.Task;
+import com.co.lab.hex.model.task.gateways.TaskEventGateway;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEventBusTest {
+
+    private final TaskEventBus bus = new TaskEventBus(new NoEvents(), new ObjectMapper(),
+            new TaskEventsProperties(1024, TaskEventsProperties.Overflow.DROP_OLDEST, Duration.ofMillis(1), 10_000),
+            new SimpleMeterRegistry());
+
+    @AfterEach
+    void destroy() {
+        bus.destroy();
+    }
+
+    @Test
+    void stalledConnectionDoesNotStopHeartbeatsOfTheOthers() {
+        AtomicReference<Throwable> stalledError = new AtomicReference<>();
+        var stalled = bus.heartbeats().subscribeWith(new BaseSubscriber<Long>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // No pide nada: una conexión que dejó de leer.
+            }
+
+            @Override
+            protected void hookOnError(Throwable error) {
+                stalledError.set(error);
+            }
+        });
+
+        // Muy por encima del prefetch del merge (32) más el buffer de share() (256).
+        StepVerifier.create(bus.heartbeats().take(600))
+                .expectNextCount(600)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+
+        assertThat(stalledError.get()).isNull();
+        assertThat(stalled.isDisposed()).isFalse();
+        stalled.dispose();
+    }
+
+    private static final class NoEvents implements TaskEventGateway {
+        @Override
+        public void publish(List<Task> created) {
+        }
+
+        @Override
+        public Flux<Task> events() {
+            return Flux.never();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.co.lab.hex.loadtest;
+
+import com.co.lab.hex.errorHandler.CorrelationIdFilter;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * El {@link CorrelationIdFilter} de antes de {@code CorrelationIds}, para
+ * {@code --correlation-id=legacy|compare}: {@code UUID.randomUUID()} por petición, copia de la
+ * request con el header, copia del exchange y el id en el {@code Context} con {@code ctx.put}.
+ * Lo único agregado es el atributo {@link CorrelationIdFilter#CID_KEY}, que es de donde lo lee hoy
+ * el manejo de errores; sin él los 4xx/5xx saldrían sin {@code correlationId}.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+final class LegacyCorrelationIdFilter implements WebFilter {
+
+    /** Nombre del bean que registra el escaneo de componentes para {@link CorrelationIdFilter}. */
+    private static final String BEAN = "correlationIdFilter";
+
+    /**
+     * Cambia el filtro actual por este antes de crear los beans. Corre después del escaneo de
+     * componentes (es un post-procesador común, no de registro), así que la definición ya existe.
+     */
+    static ApplicationContextInitializer<ConfigurableApplicationContext> installer() {
+        return context -> context.addBeanFactoryPostProcessor(beanFactory -> {
+            BeanDefinitionRegistry registry = (BeanDefinitionRegistry) beanFactory;
+            registry.removeBeanDefinition(BEAN);
+            registry.registerBeanDefinition(BEAN, new RootBeanDefinition(LegacyCorrelationIdFilter.class));
+        });
+    }
+
+    @Override
+    public @NonNull Mono<Void> filter(@NonNull ServerWebExchange exchange,
+                                      @NonNull WebFilterChain chain) {
+        String cid = Optional.ofNullable(exchange.getRequest().getHeaders().getFirst(CorrelationIdFilter.HDR))
+                .orElseGet(() -> UUID.randomUUID().toString());
+
+        var mutatedRequest = exchange.getRequest().mutate().header(CorrelationIdFilter.HDR, cid).build();
+        exchange.getResponse().getHeaders().set(CorrelationIdFilter.HDR, cid);
+
+        var mutatedExchange = exchange.mutate().request(mutatedRequest).build();
+        mutatedExchange.getAttributes().put(CorrelationIdFilter.HDR, cid);
+        mutatedExchange.getAttributes().put(CorrelationIdFilter.CID_KEY, cid);
+
+        return chain.filter(mutatedExchange).contextWrite(ctx -> ctx.put(CorrelationIdFilter.HDR, cid));
+    }
+}
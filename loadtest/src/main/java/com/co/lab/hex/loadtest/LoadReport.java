@@ -0,0 +1,161 @@
+package com.co.lab.hex.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reporte de una corrida: {@code loadtest.json} (comparable entre commits) y un {@code .hgrm}
+ * por escenario con la distribución completa en ms, que se puede graficar con el
+ * HdrHistogram plotter. Los errores de transporte y timeouts tienen su propia latencia
+ * ({@code errorLatencyUs}) y no entran en {@code latencyUs}.
+ */
+final class LoadReport {
+
+    private LoadReport() {}
+
+    static Path write(LoadTestOptions options, String baseUrl, Map<Scenario, ScenarioStats> stats,
+                      long allocatedBytes) throws IOException {
+        Files.createDirectories(options.out());
+        double seconds = options.duration().toMillis() / 1000.0;
+        Histogram total = new Histogram(ScenarioStats.MAX_LATENCY_US, 3);
+        Histogram totalErrors = new Histogram(ScenarioStats.MAX_LATENCY_US, 3);
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        long sent = 0, dropped = 0, errors = 0, unexpected = 0;
+
+        for (ScenarioStats s : stats.values()) {
+            Histogram h = s.histogram();
+            total.add(h);
+            totalErrors.add(s.errorHistogram());
+            sent += s.sent();
+            dropped += s.dropped();
+            errors += s.errors();
+            unexpected += s.unexpected();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("sent", s.sent());
+            entry.put("completed", h.getTotalCount());
+            entry.put("dropped", s.dropped());
+            entry.put("errors", s.errors());
+            entry.put("expectedStatus", s.scenario.expectedStatus);
+            entry.put("unexpected", s.unexpected());
+            entry.put("statuses", s.statuses());
+            entry.put("throughputRps", round(h.getTotalCount() / seconds));
+            entry.put("latencyUs", latency(h));
+            entry.put("errorLatencyUs", latency(s.errorHistogram()));
+            scenarios.put(s.scenario.label, entry);
+            try (PrintStream out = new PrintStream(options.out().resolve(s.scenario.label + ".hgrm").toFile())) {
+                h.outputPercentileDistribution(out, 1000.0);
+            }
+            if (s.errors() > 0) {
+                Path errorsFile = options.out().resolve(s.scenario.label + "-errors.hgrm");
+                try (PrintStream out = new PrintStream(errorsFile.toFile())) {
+                    s.errorHistogram().outputPercentileDistribution(out, 1000.0);
+                }
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", options.label());
+        report.put("timestamp", Instant.now().toString());
+        report.put("target", baseUrl);
+        report.put("offeredRps", options.rate());
+        report.put("warmupSeconds", options.warmup().toSeconds());
+        report.put("durationSeconds", seconds);
+        report.put("mix", mixOf(options));
+        report.put("asyncLog", options.target() == null ? options.asyncLog().name().toLowerCase(Locale.ROOT) : null);
+        report.put("correlationId", options.target() == null ? options.correlationId().name().toLowerCase(Locale.ROOT) : null);
+        report.put("sent", sent);
+        report.put("completed", total.getTotalCount());
+        report.put("dropped", dropped);
+        report.put("errors", errors);
+        report.put("unexpected", unexpected);
+        report.put("throughputRps", round(total.getTotalCount() / seconds));
+        report.put("latencyUs", latency(total));
+        report.put("errorLatencyUs", latency(totalErrors));
+        // Con --target solo quedaría lo que asigna el cliente: no dice nada del servicio.
+        report.put("allocatedBytesPerRequest", options.target() == null && allocatedBytes >= 0 && sent > 0
+                ? round(allocatedBytes / (double) sent) : null);
+        report.put("scenarios", scenarios);
+
+        Path file = options.out().resolve("loadtest.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        return file;
+    }
+
+    /** Resumen legible en consola; el JSON es la fuente para comparar. */
+    static void print(Map<Scenario, ScenarioStats> stats, LoadTestOptions options, PrintStream out) {
+        double seconds = options.duration().toMillis() / 1000.0;
+        out.printf("%-10s %9s %9s %8s %8s %9s %9s %9s %9s %9s %10s%n",
+                "scenario", "rps", "done", "dropped", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "unexpect",
+                "err p99 ms");
+        for (ScenarioStats s : stats.values()) {
+            Histogram h = s.histogram();
+            out.printf("%-10s %9.1f %9d %8d %8d %9.2f %9.2f %9.2f %9.2f %9d %10.2f%n",
+                    s.scenario.label, h.getTotalCount() / seconds, h.getTotalCount(), s.dropped(), s.errors(),
+                    h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(99) / 1000.0,
+                    h.getValueAtPercentile(99.9) / 1000.0, h.getMaxValue() / 1000.0, s.unexpected(),
+                    s.errorHistogram().getValueAtPercentile(99) / 1000.0);
+        }
+    }
+
+    /**
+     * Una línea por corrida de {@code --async-log=compare} o {@code --correlation-id=compare}: mismo
+     * mix y tasa, solo cambia el appender o el filtro. {@code KB/req} son los bytes asignados por el
+     * proceso en la ventana medida sobre las peticiones enviadas.
+     */
+    static void printComparison(Map<String, Map<Scenario, ScenarioStats>> runs, Map<String, Long> allocatedBytes,
+                                LoadTestOptions options, PrintStream out) {
+        double seconds = options.duration().toMillis() / 1000.0;
+        out.printf("%-32s %9s %9s %8s %9s %9s %9s %9s%n",
+                "run", "rps", "5xx", "errors", "p50 ms", "p99 ms", "p99.9 ms", "KB/req");
+        runs.forEach((run, stats) -> {
+            Histogram total = new Histogram(ScenarioStats.MAX_LATENCY_US, 3);
+            long serverErrors = 0, errors = 0, sent = 0;
+            for (ScenarioStats s : stats.values()) {
+                total.add(s.histogram());
+                errors += s.errors();
+                sent += s.sent();
+                for (var e : s.statuses().entrySet()) {
+                    if (e.getKey() >= 500) serverErrors += e.getValue();
+                }
+            }
+            long allocated = allocatedBytes.getOrDefault(run, -1L);
+            out.printf("%-32s %9.1f %9d %8d %9.2f %9.2f %9.2f %9s%n",
+                    run, total.getTotalCount() / seconds, serverErrors, errors,
+                    total.getValueAtPercentile(50) / 1000.0, total.getValueAtPercentile(99) / 1000.0,
+                    total.getValueAtPercentile(99.9) / 1000.0,
+                    allocated >= 0 && sent > 0 ? String.format(Locale.ROOT, "%.2f", allocated / 1024.0 / sent) : "-");
+        });
+    }
+
+    private static Map<String, Object> latency(Histogram h) {
+        Map<String, Object> l = new LinkedHashMap<>();
+        l.put("mean", round(h.getMean()));
+        l.put("p50", h.getValueAtPercentile(50));
+        l.put("p90", h.getValueAtPercentile(90));
+        l.put("p99", h.getValueAtPercentile(99));
+        l.put("p999", h.getValueAtPercentile(99.9));
+        l.put("p9999", h.getValueAtPercentile(99.99));
+        l.put("max", h.getMaxValue());
+        return l;
+    }
+
+    private static Map<String, Integer> mixOf(LoadTestOptions options) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((scenario, weight) -> mix.put(scenario.label, weight));
+        return mix;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
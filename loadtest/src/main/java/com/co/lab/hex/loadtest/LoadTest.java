@@ -0,0 +1,140 @@
+package com.co.lab.hex.loadtest;
+
+import com.co.lab.hex.App;
+import com.co.lab.hex.config.BlockHoundSupport;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prueba de carga reproducible de {@code App}.
+ *
+ * <p>Sin {@code --target}, arranca un Postgres embebido, levanta {@code App} contra él en un puerto
+ * libre (con {@code init-schema}) y lo carga con {@link OpenModelGenerator}. Con
+ * {@code --target=http://host:puerto} solo genera carga contra una instancia ya levantada, que es
+ * lo recomendable para números finos: en el mismo proceso cliente y servidor comparten CPU y GC.
+ *
+ * <p>El rate limit por cliente se apaga por defecto (toda la carga sale de un único cliente);
+ * {@code --entry-points.rate-limit.enabled=true} lo vuelve a prender. Con {@code -Pblockhound} la app
+ * corre con BlockHound instalado.
+ *
+ * <p>{@code --mix=ping=20,db-error=80} es una tormenta de 5xx: la tabla de pacientes queda fuera de
+ * servicio y el log de errores recibe miles de entradas por segundo. {@code --async-log=off} corre
+ * {@code App} con el appender de consola síncrono y {@code --async-log=compare} hace las dos corridas
+ * seguidas (cada una con su base y su App) y compara throughput y latencia al final.
+ *
+ * <p>{@code --correlation-id=legacy} corre {@code App} con el filtro de correlation id anterior
+ * ({@link LegacyCorrelationIdFilter}: {@code UUID.randomUUID()} y copia de request y exchange) y
+ * {@code --correlation-id=compare} lo pone al lado del actual; la comparación suma los bytes
+ * asignados por petición, que es donde más se nota la diferencia.
+ */
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        if (options.target() == null) BlockHoundSupport.installIfPresent();
+        Map<String, Map<Scenario, ScenarioStats>> results = new LinkedHashMap<>();
+        Map<String, Long> allocated = new LinkedHashMap<>();
+        for (LoadTestOptions run : options.runs()) {
+            try (Target target = run.target() != null
+                    ? new Target(run.target(), null, null)
+                    : Target.local(run)) {
+                System.out.printf("Load test [%s]: %d req/s for %ds (+%ds warmup) against %s%n",
+                        run.label(), run.rate(), run.duration().toSeconds(),
+                        run.warmup().toSeconds(), target.baseUrl());
+                var generator = new OpenModelGenerator(run);
+                var stats = generator.run(target.baseUrl());
+                LoadReport.print(stats, run, System.out);
+                Path report = LoadReport.write(run, target.baseUrl(), stats, generator.allocatedBytes());
+                System.out.println("Report: " + report.toAbsolutePath());
+                results.put(run.label(), stats);
+                allocated.put(run.label(), generator.allocatedBytes());
+            }
+        }
+        if (results.size() > 1) LoadReport.printComparison(results, allocated, options, System.out);
+    }
+
+    /** Servicio a cargar; si se levantó aquí, cerrar también baja la app y la base. */
+    private record Target(String baseUrl, ConfigurableApplicationContext app, EmbeddedPostgres db)
+            implements AutoCloseable {
+
+        static Target local(LoadTestOptions options) throws IOException, SQLException {
+            EmbeddedPostgres db = EmbeddedPostgres.builder().start();
+            try {
+                Map<String, String> props = new LinkedHashMap<>();
+                props.put("server.port", "0");
+                props.put("adapters.r2dbc.host", "localhost");
+                props.put("adapters.r2dbc.port", String.valueOf(db.getPort()));
+                props.put("adapters.r2dbc.database", "postgres");
+                props.put("adapters.r2dbc.username", "postgres");
+                props.put("adapters.r2dbc.password", "postgres");
+                props.put("adapters.r2dbc.init-schema", "true");
+                props.put("entry-points.rate-limit.enabled", "false");
+                if (options.asyncLog() == LoadTestOptions.AsyncLog.OFF) props.put("spring.profiles.include", "sync-log");
+                SpringApplicationBuilder builder = new SpringApplicationBuilder(App.class);
+                if (options.correlationId() == LoadTestOptions.CorrelationId.LEGACY) {
+                    builder.initializers(LegacyCorrelationIdFilter.installer());
+                }
+                ConfigurableApplicationContext app = builder.run(withDefaults(props, options.appArgs()));
+                try {
+                    if (options.mix().containsKey(Scenario.DB_ERROR)) breakPatients(db);
+                } catch (SQLException e) {
+                    app.close();
+                    throw e;
+                }
+                int port = ((ReactiveWebServerApplicationContext) app).getWebServer().getPort();
+                return new Target("http://localhost:" + port, app, db);
+            } catch (RuntimeException | SQLException e) {
+                db.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Dependencia caída a propósito para {@link Scenario#DB_ERROR}: sin la tabla, cada búsqueda de
+         * paciente falla en la base y responde 503 ({@code PRT-003}) con su entrada en el log de
+         * errores. Va después del arranque para que la carga inicial del filtro de DNIs no falle; el
+         * resto de las rutas sigue funcionando.
+         */
+        private static void breakPatients(EmbeddedPostgres db) throws SQLException {
+            try (Connection connection = db.getPostgresDatabase().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE patients RENAME TO patients_offline");
+            }
+        }
+
+        /**
+         * Van como argumentos de línea de comandos para ganarle a {@code application.yml}
+         * ({@code properties(..)} quedaría por debajo); los que el usuario pasa se respetan.
+         */
+        private static String[] withDefaults(Map<String, String> defaults, String[] appArgs) {
+            List<String> args = new ArrayList<>();
+            for (String arg : appArgs) {
+                int eq = arg.indexOf('=');
+                if (arg.startsWith("--") && eq > 2) defaults.remove(arg.substring(2, eq));
+            }
+            defaults.forEach((k, v) -> args.add("--" + k + "=" + v));
+            args.addAll(List.of(appArgs));
+            return args.toArray(String[]::new);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (app != null) app.close();
+            if (db != null) db.close();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.co.lab.hex.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Opciones de la corrida, como {@code --clave=valor}. Lo que no es del harness se pasa tal cual
+ * a {@code App} (p. ej. {@code --entry-points.rate-limit.enabled=true}).
+ *
+ * @param rate        llegadas por segundo (modelo abierto: no depende de las respuestas)
+ * @param warmup      tiempo inicial que se envía pero no se mide
+ * @param duration    tiempo medido, después del warmup
+ * @param mix         peso de cada escenario
+ * @param target      URL de una instancia ya levantada; {@code null} = levantar App aquí
+ * @param maxInFlight tope de peticiones abiertas; pasado el tope la llegada se cuenta como descartada
+ * @param connections conexiones del pool del cliente
+ * @param label       identifica la corrida en el reporte (commit, rama...)
+ * @param out         carpeta de resultados
+ * @param asyncLog    logger asíncrono de App local: prendido, apagado o una corrida con cada uno
+ * @param correlationId filtro de correlation id de App local: el actual, el anterior o una corrida con cada uno
+ * @param appArgs     argumentos para {@code App}
+ */
+record LoadTestOptions(int rate,
+                       Duration warmup,
+                       Duration duration,
+                       Map<Scenario, Integer> mix,
+                       String target,
+                       int maxInFlight,
+                       int connections,
+                       String label,
+                       Path out,
+                       AsyncLog asyncLog,
+                       CorrelationId correlationId,
+                       String[] appArgs) {
+
+    /** Con qué appender de consola corre {@code App} local ({@code logback-spring.xml}). */
+    enum AsyncLog {
+        ON, OFF,
+        /** Dos corridas iguales, primero con el logger asíncrono y después sin él. */
+        COMPARE
+    }
+
+    /** Qué {@code WebFilter} de correlation id corre en {@code App} local ({@link LegacyCorrelationIdFilter}). */
+    enum CorrelationId {
+        CURRENT, LEGACY,
+        /** Dos corridas iguales, primero con el filtro actual y después con el anterior. */
+        COMPARE
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        int rate = 1000;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(30);
+        Map<Scenario, Integer> mix = parseMix("ping=40,create=40,invalid=10,not-found=10");
+        String target = null;
+        int maxInFlight = 10_000;
+        int connections = 512;
+        String label = System.getenv().getOrDefault("LOADTEST_LABEL", "local");
+        Path out = Path.of("build", "loadtest");
+        AsyncLog asyncLog = AsyncLog.ON;
+        CorrelationId correlationId = CorrelationId.CURRENT;
+        List<String> appArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String key = arg.startsWith("--") && eq > 2 ? arg.substring(2, eq) : "";
+            String value = eq > 0 ? arg.substring(eq + 1) : "";
+            switch (key) {
+                case "rate" -> rate = Integer.parseInt(value);
+                case "warmup" -> warmup = parseDuration(value);
+                case "duration" -> duration = parseDuration(value);
+                case "mix" -> mix = parseMix(value);
+                case "target" -> target = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "connections" -> connections = Integer.parseInt(value);
+                case "label" -> label = value;
+                case "out" -> out = Path.of(value);
+                case "async-log" -> asyncLog = AsyncLog.valueOf(value.toUpperCase(Locale.ROOT));
+                case "correlation-id" -> correlationId = CorrelationId.valueOf(value.toUpperCase(Locale.ROOT));
+                default -> appArgs.add(arg);
+            }
+        }
+        if (rate <= 0) throw new IllegalArgumentException("--rate must be positive");
+        if (target != null && asyncLog != AsyncLog.ON) {
+            throw new IllegalArgumentException("--async-log only applies when the app runs here (no --target)");
+        }
+        if (target != null && correlationId != CorrelationId.CURRENT) {
+            throw new IllegalArgumentException("--correlation-id only applies when the app runs here (no --target)");
+        }
+        if (asyncLog == AsyncLog.COMPARE && correlationId == CorrelationId.COMPARE) {
+            throw new IllegalArgumentException("--async-log=compare and --correlation-id=compare are exclusive");
+        }
+        return new LoadTestOptions(rate, warmup, duration, mix, target, maxInFlight, connections,
+                label, out, asyncLog, correlationId, appArgs.toArray(String[]::new));
+    }
+
+    /** Corridas a hacer: una, o con {@code COMPARE} una por modo, cada una en su subcarpeta. */
+    List<LoadTestOptions> runs() {
+        if (asyncLog == AsyncLog.COMPARE) {
+            return List.of(run("async-log-on", AsyncLog.ON, correlationId),
+                    run("async-log-off", AsyncLog.OFF, correlationId));
+        }
+        if (correlationId == CorrelationId.COMPARE) {
+            return List.of(run("correlation-id-current", asyncLog, CorrelationId.CURRENT),
+                    run("correlation-id-legacy", asyncLog, CorrelationId.LEGACY));
+        }
+        return List.of(this);
+    }
+
+    private LoadTestOptions run(String suffix, AsyncLog asyncLog, CorrelationId correlationId) {
+        return new LoadTestOptions(rate, warmup, duration, mix, target, maxInFlight, connections,
+                label + "-" + suffix, out.resolve(suffix), asyncLog, correlationId, appArgs);
+    }
+
+    /** {@code 30s}, {@code 2m}, {@code 500ms} o ISO-8601. */
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        if (value.endsWith("s")) return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        if (value.endsWith("m")) return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        return Duration.parse(value);
+    }
+
+    /** {@code ping=40,create=40,invalid=10,not-found=10}; los escenarios omitidos quedan en 0. */
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] kv = part.trim().split("=");
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) mix.put(Scenario.byName(kv[0].trim()), weight);
+        }
+        if (mix.isEmpty()) throw new IllegalArgumentException("--mix needs at least one scenario");
+        return mix;
+    }
+}
@@ -0,0 +1,159 @@
+package com.co.lab.hex.loadtest;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga de modelo abierto: las llegadas siguen un calendario fijo
+ * ({@code inicio + i / rate}) y salen aunque las anteriores no hayan respondido. Un generador
+ * cerrado (N usuarios que esperan su respuesta) baja la tasa justo cuando el servicio se degrada
+ * y esconde esa latencia; aquí el atraso se mide.
+ *
+ * <p>El cliente usa su propio event loop para no competir con el del servidor cuando
+ * {@code App} corre en el mismo proceso.
+ *
+ * <p>También toma los bytes asignados por todos los hilos del proceso entre el inicio de la ventana
+ * medida y la última llegada. Con {@code App} local incluye cliente y servidor; sirve para comparar
+ * dos corridas con la misma carga, no como número absoluto (los hilos que terminan en el medio no
+ * cuentan).
+ */
+final class OpenModelGenerator {
+
+    /** Cuánto se espera a las peticiones abiertas después de la última llegada. */
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestOptions options;
+    private final Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private long allocatedBytes = -1;
+
+    OpenModelGenerator(LoadTestOptions options) {
+        this.options = options;
+        options.mix().keySet().forEach(s -> stats.put(s, new ScenarioStats(s)));
+    }
+
+    Map<Scenario, ScenarioStats> run(String baseUrl) {
+        LoopResources loops = LoopResources.create("loadtest", Math.max(2, Runtime.getRuntime().availableProcessors() / 2), true);
+        ConnectionProvider pool = ConnectionProvider.builder("loadtest")
+                .maxConnections(options.connections())
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpClient client = HttpClient.create(pool)
+                .runOn(loops)
+                .baseUrl(baseUrl)
+                .responseTimeout(Duration.ofSeconds(30));
+        HttpClient json = client.headers(h -> h.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON));
+        try {
+            generate(client, json);
+            drain();
+        } finally {
+            pool.disposeLater().block(Duration.ofSeconds(5));
+            loops.disposeLater().block(Duration.ofSeconds(5));
+        }
+        return stats;
+    }
+
+    /** Bytes asignados por el proceso durante la ventana medida; {@code -1} si la JVM no lo informa. */
+    long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    private void generate(HttpClient client, HttpClient json) {
+        Scenario[] slots = slots(options.mix());
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) options.rate();
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        boolean measuring = false;
+        long allocatedFrom = -1;
+
+        for (long seq = 0; ; seq++) {
+            long intended = start + (long) (seq * intervalNanos);
+            if (intended - end >= 0) break;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+            if (!measuring && intended - measureFrom >= 0) {
+                measuring = true;
+                allocatedFrom = processAllocatedBytes();
+            }
+
+            Scenario scenario = slots[(int) (seq % slots.length)];
+            ScenarioStats s = intended - measureFrom >= 0 ? stats.get(scenario) : null;
+            if (inFlight.incrementAndGet() > options.maxInFlight()) {
+                inFlight.decrementAndGet();
+                if (s != null) s.onDropped();
+                continue;
+            }
+            if (s != null) s.onSent();
+            String body = scenario.body(seq);
+            send(body == null ? client : json, scenario, scenario.uri(seq), body).subscribe(
+                    status -> {
+                        inFlight.decrementAndGet();
+                        if (s != null) s.onResponse(status, System.nanoTime() - intended);
+                    },
+                    error -> {
+                        inFlight.decrementAndGet();
+                        if (s != null) s.onError(System.nanoTime() - intended);
+                    });
+        }
+        long allocatedTo = processAllocatedBytes();
+        if (allocatedFrom >= 0 && allocatedTo >= 0) allocatedBytes = allocatedTo - allocatedFrom;
+    }
+
+    private static long processAllocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (bytes > 0) total += bytes;
+        }
+        return total;
+    }
+
+    private static Mono<Integer> send(HttpClient client, Scenario scenario, String uri, String body) {
+        HttpClient.RequestSender request = client.request(scenario.method).uri(uri);
+        HttpClient.ResponseReceiver<?> receiver = body == null
+                ? request
+                : request.send(ByteBufFlux.fromString(Mono.just(body)));
+        // El cuerpo se consume (y se libera) para medir la respuesta completa.
+        return receiver.responseSingle((response, bytes) ->
+                bytes.asByteArray().then(Mono.just(response.status().code())));
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    /** Un ciclo de llegadas con cada escenario repetido según su peso, en orden fijo pero mezclado. */
+    private static Scenario[] slots(Map<Scenario, Integer> mix) {
+        List<Scenario> slots = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) slots.add(scenario);
+        });
+        Collections.shuffle(slots, new Random(42));
+        return slots.toArray(Scenario[]::new);
+    }
+}
@@ -0,0 +1,52 @@
+package com.co.lab.hex.loadtest;
+
+import io.netty.handler.codec.http.HttpMethod;
+
+/** Tipos de petición del mix; {@code expectedStatus} separa las respuestas "correctas" del resto. */
+enum Scenario {
+
+    PING("ping", HttpMethod.GET, "/ping", 200),
+    CREATE("create", HttpMethod.POST, "/api/tasks", 201),
+    /** Cuerpo que no pasa la validación: ejercita la ruta de errores (400 VALIDATION_ERROR). */
+    INVALID("invalid", HttpMethod.POST, "/api/tasks", 400),
+    NOT_FOUND("not-found", HttpMethod.GET, "/api/unknown", 404),
+    /**
+     * Tormenta de 5xx: {@code GET /api/patients/{dni}} con la tabla de pacientes fuera de servicio
+     * (503 {@code PRT-003}). Con App local, {@link LoadTest} provoca la falla al arrancar; cada
+     * petición lleva un DNI distinto para que ninguna se resuelva sin ir a la base.
+     */
+    DB_ERROR("db-error", HttpMethod.GET, "/api/patients/", 503);
+
+    final String label;
+    final HttpMethod method;
+    final String path;
+    final int expectedStatus;
+
+    Scenario(String label, HttpMethod method, String path, int expectedStatus) {
+        this.label = label;
+        this.method = method;
+        this.path = path;
+        this.expectedStatus = expectedStatus;
+    }
+
+    /** Ruta de la petición {@code seq}. */
+    String uri(long seq) {
+        return this == DB_ERROR ? path + (90_000_000L + seq) : path;
+    }
+
+    /** Cuerpo JSON de la petición {@code seq}; {@code null} si no lleva. */
+    String body(long seq) {
+        return switch (this) {
+            case CREATE -> "{\"description\":\"load " + seq + "\"}";
+            case INVALID -> "{\"description\":\"\"}";
+            default -> null;
+        };
+    }
+
+    static Scenario byName(String label) {
+        for (Scenario s : values()) {
+            if (s.label.equals(label)) return s;
+        }
+        throw new IllegalArgumentException("Unknown scenario " + label);
+    }
+}
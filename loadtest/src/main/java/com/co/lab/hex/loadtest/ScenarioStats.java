@@ -0,0 +1,103 @@
+package com.co.lab.hex.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resultados de un escenario dentro de la ventana medida. La latencia va en microsegundos y se
+ * cuenta desde el instante en que la petición <em>debía</em> salir, no desde que salió: si el
+ * generador o el pool del cliente se atrasan, esa espera también es latencia (sin coordinated
+ * omission).
+ */
+final class ScenarioStats {
+
+    static final long MAX_LATENCY_US = TimeUnit.MINUTES.toMicros(1);
+
+    final Scenario scenario;
+    private final Recorder latency = new Recorder(MAX_LATENCY_US, 3);
+    /** Hasta el error o el timeout; aparte para no mezclar fallas rápidas con respuestas. */
+    private final Recorder errorLatency = new Recorder(MAX_LATENCY_US, 3);
+    private final ConcurrentMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private Histogram histogram;
+    private Histogram errorHistogram;
+
+    ScenarioStats(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    void onSent() {
+        sent.increment();
+    }
+
+    /** La llegada no salió porque ya había {@code max-in-flight} peticiones abiertas. */
+    void onDropped() {
+        dropped.increment();
+    }
+
+    void onResponse(int status, long latencyNanos) {
+        latency.recordValue(toMicros(latencyNanos));
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * Error de transporte o timeout del cliente: no hay status, pero el tiempo hasta la falla
+     * (también desde el instante previsto) va al histograma de errores. Sin él, una corrida con
+     * muchos timeouts mostraría percentiles mejores que una sana.
+     */
+    void onError(long latencyNanos) {
+        errors.increment();
+        errorLatency.recordValue(toMicros(latencyNanos));
+    }
+
+    /** Histograma acumulado; se toma una sola vez, al terminar la corrida. */
+    Histogram histogram() {
+        if (histogram == null) histogram = latency.getIntervalHistogram();
+        return histogram;
+    }
+
+    /** Latencia de los errores de transporte y timeouts; se toma una sola vez, al terminar. */
+    Histogram errorHistogram() {
+        if (errorHistogram == null) errorHistogram = errorLatency.getIntervalHistogram();
+        return errorHistogram;
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_LATENCY_US);
+    }
+
+    long sent() {
+        return sent.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    Map<Integer, Long> statuses() {
+        Map<Integer, Long> out = new TreeMap<>();
+        statuses.forEach((status, count) -> out.put(status, count.sum()));
+        return out;
+    }
+
+    long unexpected() {
+        long n = 0;
+        for (var e : statuses.entrySet()) {
+            if (e.getKey() != scenario.expectedStatus) n += e.getValue().sum();
+        }
+        return n;
+    }
+}